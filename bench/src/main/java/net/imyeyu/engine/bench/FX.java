@@ -0,0 +1,63 @@
+package net.imyeyu.engine.bench;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javafx.application.Platform;
+
+/**
+ * 基准用 FX 线程引导，各基准分叉 JVM 时附加 Monocle 无头参数:
+ * 
+ * <pre>
+ * -Dglass.platform=Monocle -Dmonocle.platform=Headless -Dprism.order=sw
+ * </pre>
+ * 
+ * @author 夜雨
+ * @createdAt 2026-10-18 02:03:44
+ *
+ */
+public final class FX {
+
+	private static boolean isStarted = false;
+
+	private FX() {
+	}
+
+	/**
+	 * 启动 FX 线程（仅一次）
+	 * 
+	 */
+	public static synchronized void startup() throws InterruptedException {
+		if (isStarted) {
+			return;
+		}
+		CountDownLatch latch = new CountDownLatch(1);
+		Platform.startup(latch::countDown);
+		Platform.setImplicitExit(false);
+		if (!latch.await(10, TimeUnit.SECONDS)) {
+			throw new IllegalStateException("FX 线程启动超时");
+		}
+		isStarted = true;
+	}
+
+	/**
+	 * 在 FX 线程执行并等待结果
+	 * 
+	 * @param callable
+	 * @return
+	 */
+	public static <T> T call(Callable<T> callable) throws Exception {
+		startup();
+		CompletableFuture<T> future = new CompletableFuture<>();
+		Platform.runLater(() -> {
+			try {
+				future.complete(callable.call());
+			} catch (Throwable e) {
+				future.completeExceptionally(e);
+			}
+		});
+		return future.get(10, TimeUnit.SECONDS);
+	}
+}
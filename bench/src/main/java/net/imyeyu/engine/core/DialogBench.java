@@ -0,0 +1,71 @@
+package net.imyeyu.engine.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.scene.layout.VBox;
+import net.imyeyu.engine.bench.FX;
+
+/**
+ * Dialog.onUpdate 一次完整的显示加关闭动画，以及会话构造（弹窗容器及样式）
+ * 
+ * @author 夜雨
+ * @createdAt 2026-10-18 02:12:55
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Dglass.platform=Monocle", "-Dmonocle.platform=Headless", "-Dprism.order=sw", "-Djava.awt.headless=true"})
+public class DialogBench {
+
+	// 每次帧更新步长，60 FPS
+	private static final double NPF = 1E9 / 60;
+
+	public static class BenchDialog extends Dialog<VBox> {
+
+		public void onLaunch() {
+		}
+	}
+
+	private BenchDialog dialog;
+
+	@Setup
+	public void setup() throws Exception {
+		dialog = FX.call(BenchDialog::new);
+	}
+
+	@Benchmark
+	public int openClose() {
+		int frames = 0;
+		dialog.open();
+		while (dialog.isAnimating()) {
+			dialog.onUpdate(NPF);
+			frames++;
+		}
+		dialog.close();
+		while (dialog.isAnimating()) {
+			dialog.onUpdate(NPF);
+			frames++;
+		}
+		return frames;
+	}
+
+	@Benchmark
+	public BenchDialog construct() {
+		// 未挂载到场景的节点可在任意线程构造
+		return new BenchDialog();
+	}
+}
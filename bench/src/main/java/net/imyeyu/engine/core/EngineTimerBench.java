@@ -0,0 +1,60 @@
+package net.imyeyu.engine.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.imyeyu.engine.bench.FX;
+
+/**
+ * EngineTimer 单次脉冲（Timer.handle）开销，每次脉冲都足够执行一次帧更新
+ * 
+ * @author 夜雨
+ * @createdAt 2026-10-18 02:09:31
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Dglass.platform=Monocle", "-Dmonocle.platform=Headless", "-Dprism.order=sw", "-Djava.awt.headless=true"})
+public class EngineTimerBench {
+
+	/** 调试模式（FrameStats、FrameProfiler） */
+	@Param({"false", "true"})
+	public boolean debug;
+
+	/** 固定步长模式 */
+	@Param({"false", "true"})
+	public boolean fixedStep;
+
+	private EngineTimer timer;
+	private long now;
+
+	@Setup
+	public void setup(Blackhole bh) throws Exception {
+		timer = FX.call(() -> new EngineTimer(60));
+		timer.onUpdate = bh::consume;
+		timer.setDebug(debug);
+		timer.setFixedStep(fixedStep);
+		now = 1;
+	}
+
+	@Benchmark
+	public void handle() {
+		now += 16_666_667L;
+		timer.pulse(now);
+	}
+}
@@ -0,0 +1,52 @@
+package net.imyeyu.engine.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.beans.property.SimpleDoubleProperty;
+
+/**
+ * TweenManager 推进 N 个往返补间的单帧耗时
+ * 
+ * @author 夜雨
+ * @createdAt 2026-10-18 14:20:37
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TweenManagerBench {
+
+	@Param({"1000", "5000"})
+	private int count;
+
+	private TweenManager tweens;
+
+	@Setup
+	public void setup() {
+		tweens = new TweenManager();
+		for (int i = 0; i < count; i++) {
+			tweens.tween(new SimpleDoubleProperty(), 1, 300 + i % 700).ease(TweenManager.EASE_IN_OUT).repeat(-1).yoyo(true).start();
+		}
+	}
+
+	@Benchmark
+	public int tick() {
+		tweens.tick(1E9 / 60, false);
+		return tweens.size();
+	}
+}
@@ -0,0 +1,92 @@
+package net.imyeyu.engine.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.stage.Stage;
+import net.imyeyu.engine.Framework;
+import net.imyeyu.engine.bench.FX;
+
+/**
+ * YeyuEngine 页面查找及帧更新分发
+ * 
+ * @author 夜雨
+ * @createdAt 2026-10-18 02:16:20
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Dglass.platform=Monocle", "-Dmonocle.platform=Headless", "-Dprism.order=sw", "-Djava.awt.headless=true"})
+public class YeyuEngineBench {
+
+	public static class BenchView extends View {
+
+		public long updates;
+
+		public void onLaunch() {
+		}
+
+		protected void onUpdate(double time) {
+			updates++;
+		}
+	}
+
+	/** 注册页面数 */
+	@Param({"10", "100"})
+	public int views;
+
+	private YeyuEngine engine;
+	private String[] names;
+	private int index = 0;
+
+	@Setup
+	public void setup() throws Exception {
+		names = new String[views];
+		engine = FX.call(() -> {
+			YeyuEngine engine = new YeyuEngine(new Stage());
+			for (int i = 0; i < views; i++) {
+				names[i] = "view" + i;
+				engine.regView(names[i], new BenchView());
+			}
+			engine.launch();
+			engine.gotoView(names[0]);
+			// 停止脉冲，由基准线程驱动帧更新
+			Framework.timer.stop();
+			return engine;
+		});
+	}
+
+	@TearDown
+	public void tearDown() throws Exception {
+		FX.call(() -> {
+			engine.getStage().close();
+			return null;
+		});
+	}
+
+	@Benchmark
+	public View lookup() {
+		index = (index + 1) % views;
+		return engine.getView(names[index]);
+	}
+
+	@Benchmark
+	public void dispatch() {
+		Framework.timer.step(1);
+	}
+}
@@ -0,0 +1,43 @@
+package net.imyeyu.engine.utils;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * CubicBezier.build 不同精度下的耗时，以及共享采样表的获取
+ * 
+ * @author 夜雨
+ * @createdAt 2026-10-18 02:06:12
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CubicBezierBench {
+
+	@Param({"12", "60", "120", "1000"})
+	public int precision;
+
+	@Benchmark
+	public Object build() {
+		return new CubicBezier(.08, .82, .17, 1).precision(precision).build();
+	}
+
+	@Benchmark
+	public Object table() {
+		return CubicBezier.table(.08, .82, .17, 1, precision);
+	}
+}
@@ -0,0 +1,41 @@
+package net.imyeyu.engine.utils;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * CubicBezier.ease 按时间求值的单次耗时
+ * 
+ * @author 夜雨
+ * @createdAt 2026-10-18 13:02:19
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CubicBezierEaseBench {
+
+	private final CubicBezier bezier = new CubicBezier(.08, .82, .17, 1);
+	private double x = 0;
+
+	@Benchmark
+	public double ease() {
+		x += .0173;
+		if (1 < x) {
+			x -= 1;
+		}
+		return bezier.ease(x);
+	}
+}
@@ -0,0 +1,28 @@
+package net.imyeyu.engine.trace.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR 事件：会话显示或关闭动画
+ * 
+ * @author 夜雨
+ * @createdAt 2026-10-18 00:09:21
+ *
+ */
+@Name("net.imyeyu.engine.Dialog")
+@Label("Dialog Animation")
+@Category("Yeyu Engine")
+@Description("dialogShow 或 dialogClose 的动画过程")
+final class DialogEvent extends jdk.jfr.Event {
+
+	@Label("Dialog")
+	@Description("会话标记")
+	String dialog;
+
+	@Label("Action")
+	@Description("show 或 close")
+	String action;
+}
@@ -0,0 +1,28 @@
+package net.imyeyu.engine.trace.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR 事件：一次帧更新脉冲（EngineTimer）
+ * 
+ * @author 夜雨
+ * @createdAt 2026-10-18 00:05:13
+ *
+ */
+@Name("net.imyeyu.engine.Frame")
+@Label("Frame")
+@Category("Yeyu Engine")
+@Description("EngineTimer 一次脉冲内的帧更新")
+final class FrameEvent extends jdk.jfr.Event {
+
+	@Label("Fixed Step")
+	@Description("是否固定步长模式")
+	boolean fixedStep;
+
+	@Label("Updates")
+	@Description("本次脉冲执行帧更新次数")
+	int updates;
+}
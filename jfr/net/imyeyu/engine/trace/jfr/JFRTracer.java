@@ -0,0 +1,105 @@
+package net.imyeyu.engine.trace.jfr;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import net.imyeyu.engine.trace.Tracer;
+
+/**
+ * JFR 追踪实现，由 Trace 反射加载
+ * <p>
+ * 监听 FlightRecorder 录制状态，只有存在运行中的录制时 isRecording 为 true
+ * </p>
+ * 
+ * @author 夜雨
+ * @createdAt 2026-10-18 00:12:47
+ *
+ */
+public final class JFRTracer implements Tracer, FlightRecorderListener {
+
+	private volatile boolean recording = false;
+
+	public JFRTracer() {
+		// 已初始化时立即回调 recorderInitialized
+		FlightRecorder.addListener(this);
+	}
+
+	public void recorderInitialized(FlightRecorder recorder) {
+		refresh(recorder);
+	}
+
+	public void recordingStateChanged(Recording changed) {
+		refresh(FlightRecorder.getFlightRecorder());
+	}
+
+	// 每次都按当前全部录制重新计算，不加锁以免与 FlightRecorder 内部锁交叉
+	private void refresh(FlightRecorder recorder) {
+		boolean running = false;
+		for (Recording recording : recorder.getRecordings()) {
+			if (recording.getState() == RecordingState.RUNNING) {
+				running = true;
+				break;
+			}
+		}
+		recording = running;
+	}
+
+	public boolean isRecording() {
+		return recording;
+	}
+
+	public Object beginFrame() {
+		FrameEvent event = new FrameEvent();
+		event.begin();
+		return event;
+	}
+
+	public void endFrame(Object event, boolean fixedStep, int updates) {
+		FrameEvent frame = (FrameEvent) event;
+		if (frame.shouldCommit()) {
+			frame.fixedStep = fixedStep;
+			frame.updates = updates;
+			frame.commit();
+		}
+	}
+
+	public Object beginUpdate() {
+		UpdateEvent event = new UpdateEvent();
+		event.begin();
+		return event;
+	}
+
+	public void endUpdate(Object event, String view, boolean dialog) {
+		UpdateEvent update = (UpdateEvent) event;
+		if (update.shouldCommit()) {
+			update.view = view;
+			update.dialog = dialog;
+			update.commit();
+		}
+	}
+
+	public Object beginTransition(String from, String to) {
+		TransitionEvent event = new TransitionEvent();
+		event.from = from;
+		event.to = to;
+		event.begin();
+		return event;
+	}
+
+	public void endTransition(Object event) {
+		((TransitionEvent) event).commit();
+	}
+
+	public Object beginDialog(String dialog, String action) {
+		DialogEvent event = new DialogEvent();
+		event.dialog = dialog;
+		event.action = action;
+		event.begin();
+		return event;
+	}
+
+	public void endDialog(Object event) {
+		((DialogEvent) event).commit();
+	}
+}
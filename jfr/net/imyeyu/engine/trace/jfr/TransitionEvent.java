@@ -0,0 +1,26 @@
+package net.imyeyu.engine.trace.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR 事件：页面切换，从 gotoView 开始到旧页面过渡结束
+ * 
+ * @author 夜雨
+ * @createdAt 2026-10-18 00:07:58
+ *
+ */
+@Name("net.imyeyu.engine.ViewTransition")
+@Label("View Transition")
+@Category("Yeyu Engine")
+@Description("YeyuEngine.gotoView 页面切换")
+final class TransitionEvent extends jdk.jfr.Event {
+
+	@Label("From")
+	String from;
+
+	@Label("To")
+	String to;
+}
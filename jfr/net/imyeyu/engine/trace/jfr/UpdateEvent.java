@@ -0,0 +1,27 @@
+package net.imyeyu.engine.trace.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR 事件：页面或会话的一次 onUpdate
+ * 
+ * @author 夜雨
+ * @createdAt 2026-10-18 00:06:40
+ *
+ */
+@Name("net.imyeyu.engine.Update")
+@Label("View Update")
+@Category("Yeyu Engine")
+@Description("View.onUpdate 或 Dialog.onUpdate")
+final class UpdateEvent extends jdk.jfr.Event {
+
+	@Label("View")
+	@Description("页面或会话标记")
+	String view;
+
+	@Label("Dialog")
+	boolean dialog;
+}
@@ -22,6 +22,8 @@ public class EngineConfig {
 
 	// FPS 限制
 	private int FPS, FPSMin;
+	// 逻辑帧率，0 为与 FPS 相同
+	private int stepFPS = 0;
 	// 图标
 	private Image icon;
 	// 标题
@@ -40,6 +42,24 @@ public class EngineConfig {
 	private boolean isInBeforeOut = true;
 	// 场景底色
 	private Paint bg;
+	// 固定步长模式
+	private boolean isFixedStep = false;
+	// 每次脉冲最大追帧步数
+	private int maxSubSteps = 5;
+	// 线程模式
+	private boolean isThreaded = false;
+	// 帧率调控
+	private boolean isGovernor = false;
+	// 空闲帧率
+	private int idleFPS = 1;
+	// 空闲等待（毫秒）
+	private long idleTimeout = 5000;
+	// 页面缓存预算（字节）
+	private long viewBudget = 0;
+	// 快照过渡
+	private boolean isSnapshotTransition = false;
+	// 过渡中再次切换页面的策略
+	private NavigationPolicy navigationPolicy = NavigationPolicy.COALESCE;
 
 	public EngineConfig() {
 		FPS = 60;
@@ -85,6 +105,23 @@ public class EngineConfig {
 		return FPSMin;
 	}
 
+	/**
+	 * 每秒逻辑帧数（固定步长、模拟线程、调度器和补间的步长），不随失去焦点或帧率调控
+	 * 改变，0 为与 FPS 相同。默认 0
+	 * 
+	 * @param stepFPS
+	 */
+	public void setStepFPS(int stepFPS) {
+		if (stepFPS < 0) {
+			throw new IllegalArgumentException("帧率不可小于 0");
+		}
+		this.stepFPS = stepFPS;
+	}
+
+	public int getStepFPS() {
+		return stepFPS == 0 ? FPS : stepFPS;
+	}
+
 	/**
 	 * 窗体图标
 	 * 
@@ -228,4 +265,139 @@ public class EngineConfig {
 	public Paint getBg() {
 		return bg;
 	}
+	
+	/**
+	 * 是否使用固定步长模式（逻辑按固定帧率追帧执行，渲染按插值平滑）。默认 false
+	 * 
+	 * @param isFixedStep
+	 */
+	public void setFixedStep(boolean isFixedStep) {
+		this.isFixedStep = isFixedStep;
+	}
+	
+	public boolean isFixedStep() {
+		return isFixedStep;
+	}
+	
+	/**
+	 * 固定步长模式下每次脉冲最大追帧步数。默认 5
+	 * 
+	 * @param maxSubSteps
+	 */
+	public void setMaxSubSteps(int maxSubSteps) {
+		if (maxSubSteps < 1) {
+			throw new IllegalArgumentException("追帧步数不可小于 1");
+		}
+		this.maxSubSteps = maxSubSteps;
+	}
+	
+	public int getMaxSubSteps() {
+		return maxSubSteps;
+	}
+	
+	/**
+	 * 是否使用线程模式（游戏逻辑在独立模拟线程执行，View.onSimulate）。默认 false
+	 * 
+	 * @param isThreaded
+	 */
+	public void setThreaded(boolean isThreaded) {
+		this.isThreaded = isThreaded;
+	}
+	
+	public boolean isThreaded() {
+		return isThreaded;
+	}
+	
+	/**
+	 * 是否启用帧率调控（最小化或空闲时挂起脉冲，持续掉帧时自动降帧）。默认 false
+	 * 
+	 * @param isGovernor
+	 */
+	public void setGovernor(boolean isGovernor) {
+		this.isGovernor = isGovernor;
+	}
+	
+	public boolean isGovernor() {
+		return isGovernor;
+	}
+	
+	/**
+	 * 帧率调控空闲时每秒帧数。默认 1
+	 * 
+	 * @param idleFPS
+	 */
+	public void setIdleFPS(int idleFPS) {
+		if (idleFPS < 1) {
+			throw new IllegalArgumentException("帧率不可小于 1 ");
+		}
+		this.idleFPS = idleFPS;
+	}
+	
+	public int getIdleFPS() {
+		return idleFPS;
+	}
+	
+	/**
+	 * 帧率调控无输入、无动画多久后进入空闲（毫秒）。默认 5000
+	 * 
+	 * @param idleTimeout
+	 */
+	public void setIdleTimeout(long idleTimeout) {
+		if (idleTimeout < 1) {
+			throw new IllegalArgumentException("空闲时间不可小于 1");
+		}
+		this.idleTimeout = idleTimeout;
+	}
+	
+	public long getIdleTimeout() {
+		return idleTimeout;
+	}
+	
+	/**
+	 * 页面缓存预算（字节，按页面估算占用计）。超出时按最近最少显示释放后台页面，
+	 * 下次使用时重建，0 为不限制。默认 0
+	 * 
+	 * @param viewBudget
+	 */
+	public void setViewBudget(long viewBudget) {
+		if (viewBudget < 0) {
+			throw new IllegalArgumentException("缓存预算不可小于 0");
+		}
+		this.viewBudget = viewBudget;
+	}
+	
+	public long getViewBudget() {
+		return viewBudget;
+	}
+	
+	/**
+	 * 是否以快照执行页面过渡：旧页面栅格化后立即移出节点，新页面在过渡结束前同样以快照显示，
+	 * 过渡期间只渲染图片。过渡关键帧应作用于页面本身（如 Transition.toKeyFrames(view, ...)），
+	 * 过渡期间页面子节点列表的增删会在结束时丢弃。默认 false
+	 * 
+	 * @param isSnapshotTransition
+	 */
+	public void setSnapshotTransition(boolean isSnapshotTransition) {
+		this.isSnapshotTransition = isSnapshotTransition;
+	}
+	
+	public boolean isSnapshotTransition() {
+		return isSnapshotTransition;
+	}
+	
+	/**
+	 * 页面过渡进行中再次切换页面时的策略。默认 COALESCE
+	 * 
+	 * @param navigationPolicy
+	 */
+	public void setNavigationPolicy(NavigationPolicy navigationPolicy) {
+		if (navigationPolicy == null) {
+			throw new NullPointerException("策略不可为空");
+		}
+		this.navigationPolicy = navigationPolicy;
+	}
+	
+	public NavigationPolicy getNavigationPolicy() {
+		return navigationPolicy;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package net.imyeyu.engine.bean;
+
+/**
+ * 页面过渡进行中再次切换页面时的处理策略
+ * 
+ * @author 夜雨
+ * @createdAt 2026-10-18 11:20:36
+ *
+ */
+public enum NavigationPolicy {
+
+	/** 合并到最后一次请求的页面，中断的过渡直接跳到结束状态 */
+	COALESCE("COALESCE"),
+	/** 排队，按请求顺序依次完整过渡 */
+	QUEUE("QUEUE");
+	
+	private String typeName;
+	
+	private NavigationPolicy(String typeName) {
+		this.typeName = typeName;
+	}
+	
+	public static NavigationPolicy fromTypeName(String typeName) {
+		for (NavigationPolicy item : NavigationPolicy.values()) {
+			if (item.getTypeName().equals(typeName)) {
+				return item;
+			}
+		}
+		return null;
+	}
+	
+	public String getTypeName() {
+		return this.typeName;
+	}
+}
\ No newline at end of file
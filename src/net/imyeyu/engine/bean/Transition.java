@@ -3,10 +3,12 @@ package net.imyeyu.engine.bean;
 import java.util.ArrayList;
 import java.util.List;
 
+import javafx.animation.Interpolator;
 import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
 import javafx.scene.Node;
 import javafx.util.Duration;
+import net.imyeyu.engine.core.EngineTimeline;
 
 /**
  * 默认过渡
@@ -36,22 +38,48 @@ public enum Transition {
     }
 	
 	public static List<KeyFrame> toKeyFrames(Node node, Transition typeName, long ms) {
+		return toKeyFrames(node, typeName, ms, Interpolator.LINEAR);
+	}
+	
+	/**
+	 * 生成过渡关键帧
+	 * 
+	 * @param node         节点
+	 * @param typeName     过渡类型
+	 * @param ms           时长
+	 * @param interpolator 插值器，如 new CubicBezier(.08, .82, .17, 1).toInterpolator()
+	 * @return
+	 */
+	public static List<KeyFrame> toKeyFrames(Node node, Transition typeName, long ms, Interpolator interpolator) {
 		List<KeyFrame> l = new ArrayList<>();
 		switch (typeName) {
 			case OPACITY_TO_1:
 				node.setOpacity(0);
 				l.add(new KeyFrame(Duration.ZERO, new KeyValue(node.opacityProperty(), 0)));
-				l.add(new KeyFrame(Duration.millis(ms), new KeyValue(node.opacityProperty(), 1)));
+				l.add(new KeyFrame(Duration.millis(ms), new KeyValue(node.opacityProperty(), 1, interpolator)));
 				break;
 			case OPACITY_TO_0:
 				node.setOpacity(1);
 				l.add(new KeyFrame(Duration.ZERO, new KeyValue(node.opacityProperty(), 1)));
-				l.add(new KeyFrame(Duration.millis(ms), new KeyValue(node.opacityProperty(), 0)));
+				l.add(new KeyFrame(Duration.millis(ms), new KeyValue(node.opacityProperty(), 0, interpolator)));
 				break;
 		}
 		return l;
 	}
 	
+	/**
+	 * 生成由引擎时钟驱动的过渡动画
+	 * 
+	 * @param node         节点
+	 * @param typeName     过渡类型
+	 * @param ms           时长
+	 * @param interpolator 插值器
+	 * @return
+	 */
+	public static EngineTimeline toAnimation(Node node, Transition typeName, long ms, Interpolator interpolator) {
+		return new EngineTimeline(toKeyFrames(node, typeName, ms, interpolator));
+	}
+	
 	public String getTypeName() {
         return this.typeName;
     }
@@ -0,0 +1,66 @@
+package net.imyeyu.engine.bean;
+
+/**
+ * 页面帧更新策略
+ * <p>
+ * SUSPENDED 不更新，FULL 每次帧更新都执行，every(N) 每 N 次帧更新执行一次，
+ * 传入的帧差为这 N 次的累计值。例如 60 FPS 下 every(6) 约为 10 Hz
+ * </p>
+ * 
+ * @author 夜雨
+ * @createdAt 2026-10-18 09:12:40
+ *
+ */
+public final class UpdatePolicy {
+
+	/** 挂起，不执行帧更新 */
+	public static final UpdatePolicy SUSPENDED = new UpdatePolicy(0);
+	/** 全速，每次帧更新都执行 */
+	public static final UpdatePolicy FULL = new UpdatePolicy(1);
+	
+	private final int interval;
+	
+	private UpdatePolicy(int interval) {
+		this.interval = interval;
+	}
+	
+	/**
+	 * 每 N 次帧更新执行一次
+	 * 
+	 * @param ticks 间隔，不可小于 1
+	 * @return
+	 */
+	public static UpdatePolicy every(int ticks) {
+		if (ticks < 1) {
+			throw new IllegalArgumentException("间隔不可小于 1");
+		}
+		return ticks == 1 ? FULL : new UpdatePolicy(ticks);
+	}
+	
+	/**
+	 * 是否挂起
+	 * 
+	 * @return
+	 */
+	public boolean isSuspended() {
+		return interval == 0;
+	}
+	
+	/**
+	 * 执行间隔，挂起时为 0
+	 * 
+	 * @return
+	 */
+	public int getInterval() {
+		return interval;
+	}
+	
+	@Override
+	public String toString() {
+		switch (interval) {
+			case 0:  return "SUSPENDED";
+			case 1:  return "FULL";
+			default: return "EVERY_" + interval;
+		}
+	}
+}
\ No newline at end of file
@@ -1,17 +1,26 @@
 package net.imyeyu.engine.core;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.security.GeneralSecurityException;
-import java.util.List;
+import java.lang.reflect.TypeVariable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
 
 import javafx.geometry.Insets;
+import javafx.scene.effect.BlurType;
 import javafx.scene.effect.DropShadow;
 import javafx.scene.image.Image;
+import javafx.scene.layout.Background;
+import javafx.scene.layout.Border;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
-import net.imyeyu.engine.bean.BezierPoint;
+import net.imyeyu.engine.Framework;
 import net.imyeyu.engine.bean.Size;
+import net.imyeyu.engine.trace.Trace;
 import net.imyeyu.engine.utils.CubicBezier;
 import net.imyeyu.px.bean.TipsLevel;
 import net.imyeyu.px.extend.BgFill;
@@ -39,62 +48,105 @@ public abstract class Dialog<T extends Pane> extends View {
 	protected static final Image WARNING = TipsLevel.toImg(TipsLevel.WARNING);
 	/** 错误操作图标 */
 	protected static final Image ERROR = TipsLevel.toImg(TipsLevel.ERROR);
+	
+	// 弹窗容器默认样式，不可变，所有会话共享（阴影可变，每个会话单独创建）
+	private static final Insets PADDING = new Insets(8);
+	private static final Background BG = new BgFill("#DFECFA").build();
+	private static final Border BORDER = new BorderX("#CDDEF0").width(2).build();
+	private static final Color SHADOW = Color.valueOf("#000A");
+	
+	// 每个会话类的弹窗容器构造器，首次使用时解析泛型并查找无参构造
+	private static final ClassValue<Supplier<Pane>> FACTORIES = new ClassValue<Supplier<Pane>>() {
+		
+		@Override
+		protected Supplier<Pane> computeValue(Class<?> type) {
+			Class<?> clazz = resolve(type);
+			try {
+				MethodHandle constructor = MethodHandles.publicLookup().findConstructor(clazz, MethodType.methodType(void.class));
+				MethodHandle handle = constructor.asType(MethodType.methodType(Pane.class));
+				return () -> {
+					try {
+						return (Pane) handle.invokeExact();
+					} catch (RuntimeException | Error e) {
+						throw e;
+					} catch (Throwable e) {
+						throw new IllegalStateException(e);
+					}
+				};
+			} catch (NoSuchMethodException | IllegalAccessException e) {
+				throw new IllegalArgumentException("弹窗容器需要公开的无参构造：" + clazz.getName(), e);
+			}
+		}
+	};
 
 	/** 会话窗体对象 */
 	protected T dialog;
 	
-	private List<BezierPoint> bps = new CubicBezier(.08, .82, .17, 1).precision(12).build();
+	// 显示、关闭动画缓动曲线和时长（纳秒），按逻辑时间推进，与帧率无关
+	private static final CubicBezier EASE = new CubicBezier(.08, .82, .17, 1);
+	private static final double DURATION = 2E8;
 	
 	protected OnClose onClose;
 
+	/**
+	 * 以泛型类型的无参构造创建弹窗容器，构造器按会话类缓存
+	 * 
+	 */
 	@SuppressWarnings("unchecked")
 	public Dialog() {
-		try {
-			// 实例化泛型
-			Class<?> parent = this.getClass();
-			ParameterizedType type = null;
-			if (parent.getGenericSuperclass() instanceof ParameterizedType) {
-				type = (ParameterizedType) parent.getGenericSuperclass();
-			} else {
-				// 向上查找
-				for (Type t = null; parent != Object.class; t = parent.getGenericSuperclass()) {
-					if (t instanceof ParameterizedType) {
-						type = (ParameterizedType) t;
-						break;
-					} else {
-						parent = parent.getSuperclass();
-					}
+		init((T) FACTORIES.get(getClass()).get());
+	}
+	
+	/**
+	 * 以指定构造器创建弹窗容器
+	 * 
+	 * @param factory 弹窗容器构造器
+	 */
+	protected Dialog(Supplier<T> factory) {
+		init(factory.get());
+	}
+	
+	private void init(T dialog) {
+		this.dialog = dialog;
+		dialog.setPadding(PADDING);
+		dialog.setBackground(BG);
+		dialog.setBorder(BORDER);
+		dialog.setEffect(new DropShadow(BlurType.THREE_PASS_BOX, SHADOW, 0, 1, 2, 2));
+		dialog.setTranslateY(-60);
+		
+		getChildren().add(dialog);
+	}
+	
+	// 向上查找 Dialog 的泛型参数，中间泛型父类的类型变量按子类传入的实参解析
+	private static Class<?> resolve(Class<?> type) {
+		Map<TypeVariable<?>, Type> args = new HashMap<>();
+		for (Class<?> clazz = type; clazz != Dialog.class && clazz != null; clazz = clazz.getSuperclass()) {
+			Type parent = clazz.getGenericSuperclass();
+			if (!(parent instanceof ParameterizedType)) {
+				continue;
+			}
+			Class<?> raw = (Class<?>) ((ParameterizedType) parent).getRawType();
+			Type[] actual = ((ParameterizedType) parent).getActualTypeArguments();
+			TypeVariable<?>[] vars = raw.getTypeParameters();
+			for (int i = 0; i < vars.length; i++) {
+				Type arg = actual[i];
+				if (arg instanceof TypeVariable && args.containsKey(arg)) {
+					arg = args.get(arg);
 				}
+				args.put(vars[i], arg);
 			}
-			if (type != null) {
-				Class<T> clazz = (Class<T>) type.getActualTypeArguments()[0];
-				dialog = clazz.newInstance();
-				
-				DropShadow shadow = new DropShadow();
-				shadow.setRadius(0);
-				shadow.setOffsetX(2);
-				shadow.setOffsetY(2);
-				shadow.setSpread(1);
-				shadow.setColor(Color.valueOf("#000A"));
-				
-
-				dialog.setPadding(new Insets(8));
-				dialog.setBackground(new BgFill("#DFECFA").build());
-				dialog.setBorder(new BorderX("#CDDEF0").width(2).build());
-				dialog.setEffect(shadow);
-				dialog.setTranslateY(-60);
-				
-				getChildren().add(dialog);
-			} else {
-				throw new GeneralSecurityException("泛型布局异常");
+			if (raw == Dialog.class) {
+				Type arg = args.get(vars[0]);
+				if (arg instanceof Class) {
+					return (Class<?>) arg;
+				}
+				if (arg instanceof ParameterizedType) {
+					return (Class<?>) ((ParameterizedType) arg).getRawType();
+				}
+				break;
 			}
-		} catch (InstantiationException e) {
-			e.printStackTrace();
-		} catch (IllegalAccessException e) {
-			e.printStackTrace();
-		} catch (GeneralSecurityException e) {
-			e.printStackTrace();
 		}
+		throw new IllegalArgumentException("泛型布局异常：" + type.getName());
 	}
 	
 	public void setSize(Size size) {
@@ -109,43 +161,98 @@ public abstract class Dialog<T extends Pane> extends View {
 	}
 	
 	protected final void open() {
-		frame = 0;
+		Trace.endDialog(event);
+		event = Trace.beginDialog(getName(), "show");
+		begin();
 		isOpening = true;
+		isClosing = false;
+		apply(0);
 	}
 	
-	private int frame = 0;
-	private double y = 0;
+	// 动画开始时的逻辑时间，无引擎时按 onUpdate 帧差累计
+	private double begin = 0, elapsed = 0;
 	private boolean isOpening = false, isClosing = false;
+	// 动画追踪事件
+	private Object event;
 	protected void onUpdate(double time) {
-		if (isOpening) {
-			if (frame < bps.size()) {
-				y = bps.get(frame).y;
-				dialog.setScaleX(.4 + .6 * y);
-				dialog.setScaleY(.4 + .6 * y);
-				dialog.setOpacity(y);
-				frame++;
-			} else {
-				isOpening = false;
-			}
+		if (!isOpening && !isClosing) {
+			return;
 		}
-		if (isClosing) {
-			if (frame < bps.size()) {
-				y = bps.get(frame).y;
-				dialog.setScaleX(1 - .6 * y);
-				dialog.setScaleY(1 - .6 * y);
-				dialog.setOpacity(1 - y);
-				frame++;
+		// 快进中间帧只推进动画，最后一帧仍写入，保证结束状态正确
+		EngineTimer timer = Framework.timer;
+		boolean isSkip = timer != null && timer.isSkipFrame();
+		// 帧差在非固定步长模式下含卡顿积压，动画按逻辑时间推进
+		elapsed = timer == null ? elapsed + time : timer.getLogicNanos() - begin;
+		double y = elapsed < DURATION ? EASE.ease(elapsed / DURATION) : 1;
+		if (!isSkip || y == 1) {
+			apply(isOpening ? y : 1 - y);
+		}
+		if (y == 1) {
+			Trace.endDialog(event);
+			event = null;
+			if (isOpening) {
+				isOpening = false;
 			} else {
+				isClosing = false;
 				if (onClose != null) {
 					onClose.handle();
 				}
-				isClosing = false;
+			}
+		}
+	}
+	
+	private void begin() {
+		begin = Framework.timer == null ? 0 : Framework.timer.getLogicNanos();
+		elapsed = 0;
+	}
+	
+	// 动画进度 0 为隐藏，1 为完全显示
+	private void apply(double y) {
+		dialog.setScaleX(.4 + .6 * y);
+		dialog.setScaleY(.4 + .6 * y);
+		dialog.setOpacity(y);
+	}
+	
+	/**
+	 * 是否正在执行显示或关闭动画
+	 * 
+	 * @return
+	 */
+	boolean isAnimating() {
+		return isOpening || isClosing;
+	}
+	
+	/**
+	 * 立即结束显示或关闭动画（被新会话覆盖时），关闭动画结束会触发 onClose
+	 * 
+	 */
+	void settle() {
+		if (isOpening) {
+			isOpening = false;
+			apply(1);
+			Trace.endDialog(event);
+			event = null;
+		}
+		if (isClosing) {
+			isClosing = false;
+			apply(0);
+			Trace.endDialog(event);
+			event = null;
+			if (onClose != null) {
+				onClose.handle();
 			}
 		}
 	}
 	
 	protected final void close() {
-		frame = 0;
+		if (isClosing) {
+			// 关闭动画中再次关闭（如再次替换）不重新开始，只按新的 onClose 结束
+			return;
+		}
+		Trace.endDialog(event);
+		event = Trace.beginDialog(getName(), "close");
+		begin();
+		isOpening = false;
 		isClosing = true;
 	}
 	
@@ -0,0 +1,73 @@
+package net.imyeyu.engine.core;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 会话池，频繁复用的会话（确认框、提示等）关闭后回收，下次显示直接取出，
+ * 避免重复构造节点和布局。同一类型可同时在会话栈中显示多个实例
+ * 
+ * @author 夜雨
+ * @createdAt 2026-10-18 12:10:47
+ *
+ */
+final class DialogPool {
+
+	private final Supplier<? extends Dialog<?>> factory;
+	private final int capacity;
+	private final ArrayDeque<Dialog<?>> idle;
+	// 已构造且未丢弃的实例（含显示中的）
+	final List<Dialog<?>> instances = new ArrayList<>();
+
+	DialogPool(Supplier<? extends Dialog<?>> factory, int capacity) {
+		if (factory == null) {
+			throw new NullPointerException("构造器不可为空");
+		}
+		if (capacity < 1) {
+			throw new IllegalArgumentException("容量不可小于 1");
+		}
+		this.factory = factory;
+		this.capacity = capacity;
+		this.idle = new ArrayDeque<>(capacity);
+	}
+
+	/**
+	 * 取出空闲实例
+	 * 
+	 * @return 没有空闲实例时为 null
+	 */
+	Dialog<?> poll() {
+		return idle.poll();
+	}
+
+	/**
+	 * 构造新实例
+	 * 
+	 * @return
+	 */
+	Dialog<?> create() {
+		Dialog<?> dialog = factory.get();
+		if (dialog == null) {
+			throw new NullPointerException("构造器返回了空会话");
+		}
+		instances.add(dialog);
+		return dialog;
+	}
+
+	/**
+	 * 回收实例，空闲实例已满时丢弃
+	 * 
+	 * @param dialog 会话
+	 * @return 已回收时返回 true
+	 */
+	boolean offer(Dialog<?> dialog) {
+		if (idle.size() < capacity) {
+			idle.push(dialog);
+			return true;
+		}
+		instances.remove(dialog);
+		return false;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,123 @@
+package net.imyeyu.engine.core;
+
+/**
+ * 引擎时钟，把 FX 脉冲时间换算为游戏时间
+ * <ul>
+ *     <li>REAL: 脉冲时间（默认）</li>
+ *     <li>Scaled: 按倍率缩放，用于慢放或快进</li>
+ *     <li>Manual: 手动推进的虚拟时钟，用于确定性测试和基准，配合 EngineTimer.step 使用</li>
+ * </ul>
+ * 
+ * @author 夜雨
+ * @createdAt 2026-10-18 01:22:37
+ *
+ */
+public abstract class EngineClock {
+
+	/** 脉冲时间 */
+	public static final EngineClock REAL = new EngineClock() {
+		public long nanos(long pulseNanos) {
+			return pulseNanos;
+		}
+	};
+
+	/**
+	 * 换算游戏时间
+	 * 
+	 * @param pulseNanos FX 脉冲时间（纳秒）
+	 * @return 游戏时间（纳秒）
+	 */
+	public abstract long nanos(long pulseNanos);
+
+	/**
+	 * 缩放时钟
+	 * <p>
+	 * 非固定步长模式下每次脉冲最多执行一次 onUpdate，倍率大于 1 时由调度器、补间等按多个
+	 * 逻辑步长追上游戏时间；固定步长模式下 onUpdate 同样按倍率增加
+	 * </p>
+	 * 
+	 * @author 夜雨
+	 * @createdAt 2026-10-18 01:24:10
+	 *
+	 */
+	public static final class Scaled extends EngineClock {
+
+		private double scale;
+		private long lastPulse = -1;
+		private double virtual;
+
+		/**
+		 * @param scale 倍率，1 为原速
+		 */
+		public Scaled(double scale) {
+			setScale(scale);
+		}
+
+		public long nanos(long pulseNanos) {
+			if (lastPulse < 0) {
+				virtual = pulseNanos;
+			} else {
+				virtual += (pulseNanos - lastPulse) * scale;
+			}
+			lastPulse = pulseNanos;
+			return (long) virtual;
+		}
+
+		/**
+		 * 倍率，可随时调整
+		 * 
+		 * @param scale 不可小于 0
+		 */
+		public void setScale(double scale) {
+			if (scale < 0) {
+				throw new IllegalArgumentException("倍率不可小于 0");
+			}
+			this.scale = scale;
+		}
+
+		public double getScale() {
+			return scale;
+		}
+	}
+
+	/**
+	 * 手动时钟，只随 advance 推进，与脉冲无关
+	 * 
+	 * @author 夜雨
+	 * @createdAt 2026-10-18 01:26:45
+	 *
+	 */
+	public static final class Manual extends EngineClock {
+
+		private long now = 0;
+
+		public long nanos(long pulseNanos) {
+			return now;
+		}
+
+		/**
+		 * 推进
+		 * 
+		 * @param nanos 纳秒
+		 */
+		public void advance(long nanos) {
+			if (nanos < 0) {
+				throw new IllegalArgumentException("时钟不可倒退");
+			}
+			now += nanos;
+		}
+
+		/**
+		 * 推进
+		 * 
+		 * @param ms 毫秒
+		 */
+		public void advanceMillis(double ms) {
+			advance((long) (ms * 1E6));
+		}
+
+		public long getNanos() {
+			return now;
+		}
+	}
+}
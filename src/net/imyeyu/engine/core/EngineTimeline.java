@@ -0,0 +1,343 @@
+package net.imyeyu.engine.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.animation.Interpolator;
+import javafx.animation.KeyFrame;
+import javafx.animation.KeyValue;
+import javafx.beans.value.WritableBooleanValue;
+import javafx.beans.value.WritableDoubleValue;
+import javafx.beans.value.WritableFloatValue;
+import javafx.beans.value.WritableIntegerValue;
+import javafx.beans.value.WritableLongValue;
+import javafx.beans.value.WritableValue;
+import javafx.event.ActionEvent;
+import javafx.event.EventHandler;
+import net.imyeyu.engine.Framework;
+
+/**
+ * 引擎时钟驱动的关键帧动画，替代 Timeline
+ * <p>
+ * 关键帧在 EngineTimer 每次帧更新时按游戏时间采样，跟随引擎当前帧率（失焦降帧、帧率调控）、
+ * 时钟缩放、快进和挂起，而不是由 JavaFX 主时间轴以 60 Hz 独立驱动。插值方式与 Timeline 一致：
+ * 同一目标在相邻两个关键帧之间以后一个关键值的插值器插值，目标在 0 时刻没有关键值时以开始播放
+ * 时的当前值作为起点；关键帧的 onFinished 在播放越过其时刻时触发。快进中间帧只推进不写入
+ * </p>
+ * 示例:
+ * 
+ * <pre>
+ * EngineTimeline timeline = new EngineTimeline(Transition.toKeyFrames(node, Transition.OPACITY_TO_1, 300));
+ * timeline.setOnFinished(() -&gt; ...);
+ * timeline.playFromStart();
+ * </pre>
+ * 
+ * @author 夜雨
+ * @createdAt 2026-10-18 14:48:33
+ *
+ */
+public final class EngineTimeline {
+
+	// 目标类型，与 Timeline 一致按属性类型插值
+	private static final int OBJECT = 0, DOUBLE = 1, FLOAT = 2, LONG = 3, INTEGER = 4, BOOLEAN = 5;
+
+	/**
+	 * 单个目标的关键值轨道
+	 * 
+	 */
+	private static final class Track {
+
+		final WritableValue<?> target;
+		final int type;
+		// 按时间升序
+		final double[] times;
+		final Object[] values;
+		// 数值目标的关键值
+		final double[] numbers;
+		final Interpolator[] interpolators;
+		// 0 时刻没有关键值时的起点
+		Object start;
+		double startNumber;
+
+		Track(WritableValue<?> target, double[] times, Object[] values, Interpolator[] interpolators) {
+			this.target = target;
+			this.times = times;
+			this.values = values;
+			this.interpolators = interpolators;
+			if (target instanceof WritableDoubleValue) {
+				type = DOUBLE;
+			} else if (target instanceof WritableFloatValue) {
+				type = FLOAT;
+			} else if (target instanceof WritableLongValue) {
+				type = LONG;
+			} else if (target instanceof WritableIntegerValue) {
+				type = INTEGER;
+			} else if (target instanceof WritableBooleanValue) {
+				type = BOOLEAN;
+			} else {
+				type = OBJECT;
+			}
+			numbers = new double[values.length];
+			if (type != OBJECT && type != BOOLEAN) {
+				for (int i = 0; i < values.length; i++) {
+					if (!(values[i] instanceof Number)) {
+						throw new IllegalArgumentException("关键值类型与目标不匹配：" + values[i]);
+					}
+					numbers[i] = ((Number) values[i]).doubleValue();
+				}
+			}
+		}
+
+		// 记录起点
+		void capture() {
+			start = target.getValue();
+			if (start instanceof Number) {
+				startNumber = ((Number) start).doubleValue();
+			}
+		}
+
+		// 采样并写入
+		@SuppressWarnings("unchecked")
+		void write(double time) {
+			int i = 0, n = times.length;
+			while (i < n && times[i] < time) {
+				i++;
+			}
+			if (i == n || times[i] == time) {
+				i = i == n ? n - 1 : i;
+				switch (type) {
+					case DOUBLE:  ((WritableDoubleValue) target).set(numbers[i]); break;
+					case FLOAT:   ((WritableFloatValue) target).set((float) numbers[i]); break;
+					case LONG:    ((WritableLongValue) target).set((long) numbers[i]); break;
+					case INTEGER: ((WritableIntegerValue) target).set((int) numbers[i]); break;
+					default:      ((WritableValue<Object>) target).setValue(values[i]); break;
+				}
+				return;
+			}
+			double from = 0, fromNumber = startNumber;
+			Object fromValue = start;
+			if (0 < i) {
+				from = times[i - 1];
+				fromValue = values[i - 1];
+				fromNumber = numbers[i - 1];
+			}
+			double fraction = (time - from) / (times[i] - from);
+			Interpolator interpolator = interpolators[i];
+			switch (type) {
+				case DOUBLE:  ((WritableDoubleValue) target).set(interpolator.interpolate(fromNumber, numbers[i], fraction)); break;
+				case FLOAT:   ((WritableFloatValue) target).set((float) interpolator.interpolate(fromNumber, numbers[i], fraction)); break;
+				case LONG:    ((WritableLongValue) target).set(interpolator.interpolate((long) fromNumber, (long) numbers[i], fraction)); break;
+				case INTEGER: ((WritableIntegerValue) target).set(interpolator.interpolate((int) fromNumber, (int) numbers[i], fraction)); break;
+				case BOOLEAN: ((WritableBooleanValue) target).set(interpolator.interpolate(((Boolean) fromValue).booleanValue(), ((Boolean) values[i]).booleanValue(), fraction)); break;
+				default:      ((WritableValue<Object>) target).setValue(interpolator.interpolate(fromValue, values[i], fraction)); break;
+			}
+		}
+	}
+
+	private final List<KeyFrame> keyFrames = new ArrayList<>();
+	private Track[] tracks = new Track[0];
+	// 关键帧事件，按时间升序
+	private double[] cueTimes = new double[0];
+	private KeyFrame[] cues = new KeyFrame[0];
+	// 总时长、已播放时长（纳秒）、下一个待触发的关键帧事件
+	private double duration = 0, elapsed = 0;
+	private int nextCue = 0;
+	// 播放次数，用于识别回调中的重新播放
+	private int plays = 0;
+	private boolean isRunning = false;
+	private Runnable onFinished;
+
+	public EngineTimeline() {
+	}
+
+	public EngineTimeline(List<KeyFrame> keyFrames) {
+		setKeyFrames(keyFrames);
+	}
+
+	/**
+	 * 设置关键帧，播放中设置时停止播放
+	 * 
+	 * @param keyFrames 关键帧
+	 */
+	@SuppressWarnings("unchecked")
+	public void setKeyFrames(List<KeyFrame> keyFrames) {
+		stop();
+		this.keyFrames.clear();
+		this.keyFrames.addAll(keyFrames);
+
+		KeyFrame[] sorted = keyFrames.toArray(new KeyFrame[0]);
+		Arrays.sort(sorted, (a, b) -> Double.compare(a.getTime().toMillis(), b.getTime().toMillis()));
+		// 按目标分组
+		Map<WritableValue<?>, List<KeyValue>> values = new IdentityHashMap<>();
+		Map<WritableValue<?>, List<Double>> times = new IdentityHashMap<>();
+		List<WritableValue<?>> order = new ArrayList<>();
+		List<KeyFrame> cues = new ArrayList<>();
+		duration = 0;
+		for (KeyFrame keyFrame : sorted) {
+			double time = keyFrame.getTime().toMillis() * 1E6;
+			if (Double.isInfinite(time) || Double.isNaN(time)) {
+				throw new IllegalArgumentException("关键帧时刻无效：" + keyFrame.getTime());
+			}
+			duration = Math.max(duration, time);
+			for (KeyValue keyValue : keyFrame.getValues()) {
+				WritableValue<?> target = keyValue.getTarget();
+				if (!values.containsKey(target)) {
+					values.put(target, new ArrayList<>());
+					times.put(target, new ArrayList<>());
+					order.add(target);
+				}
+				values.get(target).add(keyValue);
+				times.get(target).add(time);
+			}
+			if (keyFrame.getOnFinished() != null) {
+				cues.add(keyFrame);
+			}
+		}
+		tracks = new Track[order.size()];
+		for (int i = 0; i < tracks.length; i++) {
+			List<KeyValue> kvs = values.get(order.get(i));
+			List<Double> ts = times.get(order.get(i));
+			double[] trackTimes = new double[kvs.size()];
+			Object[] trackValues = new Object[kvs.size()];
+			Interpolator[] interpolators = new Interpolator[kvs.size()];
+			for (int j = 0; j < trackTimes.length; j++) {
+				trackTimes[j] = ts.get(j);
+				trackValues[j] = kvs.get(j).getEndValue();
+				interpolators[j] = kvs.get(j).getInterpolator();
+			}
+			tracks[i] = new Track(order.get(i), trackTimes, trackValues, interpolators);
+		}
+		this.cues = cues.toArray(new KeyFrame[0]);
+		cueTimes = new double[this.cues.length];
+		for (int i = 0; i < cueTimes.length; i++) {
+			cueTimes[i] = this.cues[i].getTime().toMillis() * 1E6;
+		}
+	}
+
+	/**
+	 * 关键帧（只读）
+	 * 
+	 * @return
+	 */
+	public List<KeyFrame> getKeyFrames() {
+		return Collections.unmodifiableList(keyFrames);
+	}
+
+	/**
+	 * 从头播放。引擎未创建时直接跳到结束状态
+	 * 
+	 */
+	public void playFromStart() {
+		stop();
+		elapsed = 0;
+		nextCue = 0;
+		plays++;
+		for (int i = 0; i < tracks.length; i++) {
+			tracks[i].capture();
+		}
+		isRunning = true;
+		if (Framework.timer == null) {
+			jumpToEnd();
+			return;
+		}
+		apply(false);
+		if (isRunning) {
+			Framework.timer.attach(this);
+		}
+	}
+
+	/**
+	 * 停止，目标保持当前值，不触发 onFinished
+	 * 
+	 */
+	public void stop() {
+		if (isRunning) {
+			isRunning = false;
+			if (Framework.timer != null) {
+				Framework.timer.detach(this);
+			}
+		}
+	}
+
+	/**
+	 * 播放中时跳到结束状态并完成（写入终值，触发剩余关键帧事件和 onFinished）
+	 * 
+	 */
+	public void jumpToEnd() {
+		if (isRunning) {
+			elapsed = duration;
+			apply(false);
+		}
+	}
+
+	/**
+	 * 是否正在播放
+	 * 
+	 * @return
+	 */
+	public boolean isRunning() {
+		return isRunning;
+	}
+
+	/**
+	 * 总时长（毫秒）
+	 * 
+	 * @return
+	 */
+	public double getTotalMillis() {
+		return duration * 1E-6;
+	}
+
+	/**
+	 * 播放结束回调，stop 时不触发
+	 * 
+	 * @param onFinished 回调
+	 */
+	public void setOnFinished(Runnable onFinished) {
+		this.onFinished = onFinished;
+	}
+
+	/**
+	 * 推进一次帧更新
+	 * 
+	 * @param stepNanos 本次帧更新的游戏时间（纳秒）
+	 * @param isSkip    是否为快进中间帧（只推进不写入）
+	 */
+	void tick(double stepNanos, boolean isSkip) {
+		elapsed = Math.min(duration, elapsed + stepNanos);
+		apply(isSkip);
+	}
+
+	// 采样写入，到达结尾时完成
+	private void apply(boolean isSkip) {
+		int plays = this.plays;
+		boolean isEnd = duration <= elapsed;
+		if (!isSkip || isEnd) {
+			for (int i = 0; i < tracks.length; i++) {
+				tracks[i].write(elapsed);
+			}
+		}
+		while (nextCue < cues.length && cueTimes[nextCue] <= elapsed) {
+			EventHandler<ActionEvent> handler = cues[nextCue++].getOnFinished();
+			try {
+				handler.handle(new ActionEvent(this, null));
+			} catch (Exception e) {
+				e.printStackTrace();
+			}
+			// 事件中可能已停止或重新播放
+			if (!isRunning || plays != this.plays) {
+				return;
+			}
+		}
+		if (isEnd && isRunning) {
+			stop();
+			if (onFinished != null) {
+				onFinished.run();
+			}
+		}
+	}
+}
\ No newline at end of file
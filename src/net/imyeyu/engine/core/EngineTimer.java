@@ -2,17 +2,24 @@ package net.imyeyu.engine.core;
 
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
-import java.util.TimerTask;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
 import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
 import javafx.beans.property.ReadOnlyLongProperty;
 import javafx.beans.property.ReadOnlyStringProperty;
 import javafx.beans.property.ReadOnlyStringWrapper;
 import javafx.beans.property.SimpleLongProperty;
-import javafx.concurrent.Service;
-import javafx.concurrent.Task;
 import net.imyeyu.engine.Framework;
+import net.imyeyu.engine.trace.Trace;
+import net.imyeyu.engine.utils.LogHistogram;
 
 /**
  * 游戏主循环，帧更新
@@ -25,22 +32,64 @@ public class EngineTimer {
 
 	private final Timer timer;
 	private final FrameStats frameStats = new FrameStats();
+	private final FrameProfiler frameProfiler = new FrameProfiler();
 	private final EngineListener engineListener; // 引擎监听
+	private final Scheduler scheduler = new Scheduler();
+	private final TweenManager tweens = new TweenManager();
+	// 播放中的关键帧动画，及推进时的副本（回调中可能增删）
+	private final List<EngineTimeline> timelines = new ArrayList<>();
+	private EngineTimeline[] ticking = new EngineTimeline[8];
 	private final SimpleLongProperty fpsProperty = new SimpleLongProperty(0);
 	
 	private boolean debug = false;
+	// 状态监听采样间隔（纳秒，真实时间）及上次采样
+	private static final long SAMPLE_NANOS = 100_000_000L;
+	private long lastSample = 0;
 
-	// 当前帧，上一帧，累计帧差，当前帧差
-	private double nowNanos, lastNanos, deltaNanos, betweenNanos;
-	// 帧生成时间（纳秒）
+	// 当前帧，上一帧，累计帧差，当前帧差，距上次渲染累计帧差（固定步长模式）
+	private double nowNanos, lastNanos, deltaNanos, betweenNanos, renderNanos;
+	// 非固定步长模式下尚未推进的游戏时间（纳秒）
+	private double gameNanos;
+	// 累计逻辑时间（纳秒），每个逻辑步长推进 SPF，重置时不清零
+	private double logicNanos;
+	// 是否已有上一帧
+	private boolean hasLast = false;
+	// 时钟
+	private EngineClock clock = EngineClock.REAL;
+	// 快进模式
+	private boolean skip = false, skipFrame = false;
+	// 快进模式每次脉冲的 CPU 预算（纳秒）
+	private long skipBudgetNanos = 12_000_000L;
+	// 帧生成时间（纳秒），仅决定渲染频率
 	private double NPF;
 	// 预设每秒帧数
 	private int FPS;
+	// 逻辑步长（纳秒），模拟线程同样读取
+	private volatile double SPF;
+	// 每秒逻辑帧数
+	private int stepFPS;
 	// 总帧数
 	private long FPSL = 0;
+	// 固定步长模式
+	private boolean fixedStep = false;
+	// 每次脉冲最大追帧步数
+	private int maxSubSteps = 5;
+	// 单次脉冲最大计入帧差（纳秒），防止卡顿后追帧雪崩
+	private double maxFrameNanos = 2.5E8;
+	// 渲染插值系数
+	private double alpha = 0;
+	// 线程模式
+	private boolean threaded = false;
+	// 模拟线程
+	private Simulator simulator;
+	// 挂起时的低频脉冲
+	private ScheduledExecutorService idleExecutor;
+	private ScheduledFuture<?> idleTicker;
 
 	protected OnStart onStart;
 	protected OnUpdate onUpdate;
+	protected OnSimulate onSimulate;
+	protected OnRender onRender;
 	protected OnStop onStop;
 
 	public EngineTimer() {
@@ -48,10 +97,10 @@ public class EngineTimer {
 	}
 
 	public EngineTimer(int FPS) {
-		this.FPS = FPS;
+		setFPS(FPS);
+		setStepFPS(FPS);
 		this.timer = new Timer();
 		this.engineListener = new EngineListener();
-		this.engineListener.start();
 	}
 
 	/**
@@ -79,7 +128,7 @@ public class EngineTimer {
 	 */
 	private final class Timer extends AnimationTimer {
 
-		private double lastNanos = 0;
+		private boolean running = false, paused = false;
 
 		// 启动
 		public void start() {
@@ -87,6 +136,11 @@ public class EngineTimer {
 				onStart.handle();
 			}
 			reset();
+			frameProfiler.setEnabled(debug);
+			running = true;
+			if (threaded) {
+				startSimulator();
+			}
 			super.start();
 		}
 
@@ -95,29 +149,310 @@ public class EngineTimer {
 			if (onStop != null) {
 				onStop.handle();
 			}
+			stopIdleTicker();
 			super.stop();
+			running = paused = false;
+			stopSimulator();
+			frameProfiler.setEnabled(false);
 			reset();
 		}
 
+		// 挂起，停止 FX 脉冲但不触发停止事件
+		private void pause() {
+			paused = true;
+			super.stop();
+		}
+
+		// 恢复 FX 脉冲，丢弃挂起期间的帧差
+		private void proceed() {
+			paused = false;
+			hasLast = false;
+			lastNanos = deltaNanos = 0;
+			frameStats.lastNanos = 0;
+			super.start();
+		}
+
 		// 帧更新
 		public void handle(long time) {
-			nowNanos = time;
-			if (0 < lastNanos) {
-				// 累计帧差     当前帧差
-				deltaNanos += betweenNanos = nowNanos - lastNanos;
+			// 状态监听按真实时间采样，不受时钟、快进和逻辑步长影响
+			long wall = System.nanoTime();
+			if (SAMPLE_NANOS <= wall - lastSample) {
+				lastSample = wall;
+				engineListener.run();
 			}
-			// 累计帧差 大于 最小帧生成时间（足够渲染下一帧）
-			if (NPF <= deltaNanos) {
-				if (onUpdate != null) {
-					onUpdate.handle(deltaNanos);
-					if (debug) {
-						frameStats.addFrame(betweenNanos);
-					}
+			nowNanos = clock.nanos(time);
+			if (skip) {
+				skipUpdate(time);
+				lastNanos = nowNanos;
+				return;
+			}
+			if (hasLast) {
+				// 当前帧差
+				betweenNanos = nowNanos - lastNanos;
+				if (fixedStep && maxFrameNanos < betweenNanos) {
+					betweenNanos = maxFrameNanos;
+				}
+				// 累计帧差
+				deltaNanos += betweenNanos;
+			}
+			if (fixedStep) {
+				// 逻辑持续累计，按帧生成时间渲染
+				if (hasLast) {
+					renderNanos += betweenNanos;
+				}
+				if (!hasLast || NPF <= renderNanos) {
+					renderNanos = NPF <= renderNanos ? (renderNanos - NPF) % NPF : 0;
+					fixedUpdate(time);
+				}
+			} else {
+				// 累计帧差 大于 最小帧生成时间（足够渲染下一帧）
+				if (NPF <= deltaNanos) {
+					Object event = Trace.beginFrame();
+					frameProfiler.frameBegin();
+					// 每次脉冲最多渲染一次，时钟快于脉冲（倍率大于 1 或卡顿）时积压的整数个渲染间隔
+					// 一并计入游戏时间（不超过最大帧差），否则倍率大于 1 时无法加速
+					double behind = deltaNanos - NPF;
+					behind -= behind % NPF;
+					// 游戏时间按逻辑步长推进，与帧率无关
+					gameNanos += NPF + Math.min(behind, maxFrameNanos);
+					int steps = (int) (gameNanos / SPF);
+					gameNanos -= steps * SPF;
+					update(deltaNanos, steps);
+					frameProfiler.frameEnd();
+					Trace.endFrame(event, false, 1);
+					frameStats.addFrame(time);
+					// 剩余帧差
+					deltaNanos -= NPF + behind;
 				}
-				// 剩余帧差
-				deltaNanos -= NPF;
 			}
 			lastNanos = nowNanos;
+			hasLast = true;
+		}
+
+		// 固定步长更新，逻辑以 SPF 为步长追帧，渲染按插值系数平滑
+		private void fixedUpdate(long time) {
+			int steps = 0;
+			// 渲染间隔内应有的步数不计入追帧上限
+			int limit = maxSubSteps + (int) (NPF / SPF);
+			Object event = null;
+			if (SPF <= deltaNanos) {
+				event = Trace.beginFrame();
+				frameProfiler.frameBegin();
+			}
+			while (SPF <= deltaNanos && steps < limit) {
+				update(SPF);
+				deltaNanos -= SPF;
+				steps++;
+			}
+			if (SPF <= deltaNanos) {
+				// 追帧达到上限，丢弃积压，仅保留不足一帧的余量
+				deltaNanos %= SPF;
+			}
+			if (0 < steps) {
+				frameProfiler.frameEnd();
+				Trace.endFrame(event, true, steps);
+				frameStats.addFrame(time);
+			}
+			alpha = deltaNanos / SPF;
+			if (onRender != null) {
+				onRender.handle(alpha);
+			}
+		}
+
+		// 快进，在 CPU 预算内尽可能多地执行帧更新，只有最后一次需要写入场景图
+		private void skipUpdate(long time) {
+			long begin = System.nanoTime();
+			int steps = 0;
+			Object event = Trace.beginFrame();
+			frameProfiler.frameBegin();
+			skipFrame = true;
+			while (System.nanoTime() - begin < skipBudgetNanos) {
+				update(SPF);
+				steps++;
+			}
+			skipFrame = false;
+			update(SPF);
+			steps++;
+			deltaNanos = alpha = 0;
+			frameProfiler.frameEnd();
+			Trace.endFrame(event, fixedStep, steps);
+			frameStats.addFrame(time);
+			if (onRender != null) {
+				onRender.handle(alpha);
+			}
+		}
+	}
+
+	/**
+	 * 执行一次帧更新，先推进一个逻辑步长的调度器和补间
+	 * 
+	 * @param time 传给 onUpdate 的帧差
+	 */
+	private void update(double time) {
+		update(time, 1);
+	}
+
+	/**
+	 * 执行一次帧更新，先推进若干逻辑步长的调度器和补间（只有最后一步写入场景图）
+	 * 
+	 * @param time 传给 onUpdate 的帧差
+	 * @param steps 游戏时间推进步数
+	 */
+	private void update(double time, int steps) {
+		for (int i = 0; i < steps; i++) {
+			boolean isSkip = skipFrame || i < steps - 1;
+			logicNanos += SPF;
+			scheduler.tick(SPF);
+			tweens.tick(SPF, isSkip);
+			if (!timelines.isEmpty()) {
+				int size = timelines.size();
+				ticking = timelines.toArray(ticking);
+				for (int j = 0; j < size; j++) {
+					if (ticking[j].isRunning()) {
+						ticking[j].tick(SPF, isSkip);
+					}
+					ticking[j] = null;
+				}
+			}
+		}
+		if (onUpdate != null) {
+			onUpdate.handle(time);
+		}
+	}
+
+	/**
+	 * 模拟线程，线程模式下以固定步长执行 onSimulate，与 FX 脉冲互不阻塞
+	 * 
+	 * @author 夜雨
+	 * @createdAt 2026-10-17 22:47:19
+	 *
+	 */
+	private final class Simulator extends Thread {
+
+		private volatile boolean running = true;
+
+		public Simulator() {
+			super("YeyuEngine-Simulator");
+			setDaemon(true);
+		}
+
+		public void run() {
+			long now, last = System.nanoTime();
+			double delta = 0, between, npf;
+			int steps;
+			while (running) {
+				now = System.nanoTime();
+				between = Math.min(now - last, maxFrameNanos);
+				last = now;
+				delta += between;
+
+				npf = SPF;
+				steps = 0;
+				while (npf <= delta && steps < maxSubSteps) {
+					if (onSimulate != null) {
+						try {
+							onSimulate.handle(npf);
+						} catch (Exception e) {
+							e.printStackTrace();
+						}
+					}
+					delta -= npf;
+					steps++;
+				}
+				if (npf <= delta) {
+					delta %= npf;
+				}
+				// 休眠至下一步
+				LockSupport.parkNanos((long) (npf - delta));
+			}
+		}
+
+		public void shutdown() {
+			running = false;
+			LockSupport.unpark(this);
+			try {
+				join(1000);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private void startSimulator() {
+		if (simulator == null) {
+			simulator = new Simulator();
+			simulator.start();
+		}
+	}
+
+	private void stopSimulator() {
+		if (simulator != null) {
+			simulator.shutdown();
+			simulator = null;
+		}
+	}
+
+	/**
+	 * 挂起帧更新。停止 FX 脉冲（JavaFX 不再为引擎持续请求脉冲），改为以 tickFPS
+	 * 的低频脉冲执行帧更新，不触发 onStop。只改变渲染频率，逻辑步长不变
+	 * 
+	 * @param tickFPS 挂起期间每秒帧数
+	 */
+	void pause(int tickFPS) {
+		if (!timer.running) {
+			return;
+		}
+		setFPS(tickFPS);
+		if (!timer.paused) {
+			timer.pause();
+		}
+		stopIdleTicker();
+		if (idleExecutor == null) {
+			idleExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+				Thread t = new Thread(r, "YeyuEngine-Idle");
+				t.setDaemon(true);
+				return t;
+			});
+		}
+		long period = 1000000000L / tickFPS;
+		idleTicker = idleExecutor.scheduleAtFixedRate(() -> Platform.runLater(() -> {
+			if (timer.paused) {
+				timer.handle(System.nanoTime());
+			}
+		}), period, period, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * 恢复挂起的帧更新
+	 * 
+	 * @param FPS 恢复后每秒帧数（渲染频率）
+	 */
+	void resume(int FPS) {
+		setFPS(FPS);
+		stopIdleTicker();
+		if (timer.running && timer.paused) {
+			timer.proceed();
+		}
+	}
+
+	/**
+	 * 是否已挂起
+	 * 
+	 * @return
+	 */
+	public boolean isPaused() {
+		return timer.paused;
+	}
+
+	// 是否已启动（含挂起）
+	boolean isRunning() {
+		return timer.running;
+	}
+
+	private void stopIdleTicker() {
+		if (idleTicker != null) {
+			idleTicker.cancel(false);
+			idleTicker = null;
 		}
 	}
 
@@ -128,10 +463,12 @@ public class EngineTimer {
 	 * @createdAt 2021-01-18 13:55:09
 	 *
 	 */
-	private final class EngineListener extends Service<Void> {
+	private final class EngineListener implements Runnable {
 		
-		private long old = 0, secondFlag = 0;
+		private long old = 0, oldNanos = 0, secondFlag = 0;
 		private final String staticInfo;
+		private final StringBuilder sb = new StringBuilder();
+		private final MemoryMXBean mb = ManagementFactory.getMemoryMXBean();
 		
 		public EngineListener() {
 			// 系统信息
@@ -142,52 +479,64 @@ public class EngineTimer {
 			staticInfo = sb.append('\n').toString();
 		}
 
-		protected Task<Void> createTask() {
-			return new Task<Void>() {
-				protected Void call() throws Exception {
-					
-					final StringBuilder sb = new StringBuilder();
-					final MemoryMXBean mb = ManagementFactory.getMemoryMXBean();
-					
-					new java.util.Timer().schedule(new TimerTask() {
-						public void run() {
-							if (debug) {
-								if (secondFlag++ % 10 == 0) { // FPS
-									fpsProperty.set(FPSL - old);
-									old = FPSL;
-								}
-								sb.setLength(0);
-								// 内存信息
-								sb.append("\nMemory(MB): ");
-								sb.append("\nInit: ").append(mb.getHeapMemoryUsage().getInit() / 1048576);
-								sb.append("\nUsed: ").append(mb.getHeapMemoryUsage().getUsed() / 1048576);
-								sb.append("\nCommitted: ").append(mb.getHeapMemoryUsage().getCommitted() / 1048576);
-								sb.append("\nMax: ").append(mb.getHeapMemoryUsage().getMax() / 1048576);
-								frameStats.setSystemInfo(staticInfo + sb.toString());
-							}
-						}
-					}, 0, 100);
-					return null;
+		public void run() {
+			if (debug) {
+				if (secondFlag++ % 10 == 0) { // FPS，按真实时间折算
+					long now = System.nanoTime();
+					if (0 < oldNanos && old <= FPSL) {
+						fpsProperty.set(Math.round((FPSL - old) * 1E9 / (now - oldNanos)));
+					}
+					old = FPSL;
+					oldNanos = now;
 				}
-			};
+				sb.setLength(0);
+				// 内存信息
+				sb.append("\nMemory(MB): ");
+				sb.append("\nInit: ").append(mb.getHeapMemoryUsage().getInit() / 1048576);
+				sb.append("\nUsed: ").append(mb.getHeapMemoryUsage().getUsed() / 1048576);
+				sb.append("\nCommitted: ").append(mb.getHeapMemoryUsage().getCommitted() / 1048576);
+				sb.append("\nMax: ").append(mb.getHeapMemoryUsage().getMax() / 1048576);
+				frameStats.setSystemInfo(staticInfo + sb.toString());
+			}
 		}
 	}
 
 	/**
 	 * 帧生成效率计算
+	 * <p>
+	 * 最近 SIZE 帧的帧间隔存于环形缓冲，同时维护对数分桶直方图，可随时读取
+	 * p50/p95/p99/最大值和超时次数，统计本身不产生分配。调试文本按 PUBLISH_NANOS
+	 * 节流发布，避免每帧重新布局调试标签
+	 * </p>
 	 * 
 	 * @author 夜雨
 	 * @createdAt 2021-01-25 15:19:52
 	 *
 	 */
-	private final class FrameStats {
+	public final class FrameStats {
+
+		// 统计窗口帧数
+		private static final int SIZE = 240;
+		// 文本发布间隔（纳秒）
+		private static final long PUBLISH_NANOS = 250_000_000L;
+		// 帧间隔超出帧生成时间该倍数视为超时（掉帧）
+		private static final double OVERRUN_RATIO = 1.5;
 
-		private double ms = 0;
-		private String systemInfo;
+		// 帧间隔（微秒）
+		private final long[] frames = new long[SIZE];
+		private final boolean[] overruns = new boolean[SIZE];
+		private final LogHistogram histogram = new LogHistogram();
+		private final StringBuilder sb = new StringBuilder(512);
 		private final ReadOnlyStringWrapper text;
 
+		private int index = 0, size = 0;
+		private long sum = 0, overrunTotal = 0, lastPublish = 0;
+		private int overrunWindow = 0;
+		private double lastNanos = 0;
+		private String systemInfo = "";
+
 		public FrameStats() {
-			text = new ReadOnlyStringWrapper(this, "text", "Average frame interval(ms): N/A\nFrame: 0\nFPS: 0");
+			text = new ReadOnlyStringWrapper(this, "text", "Frame interval(ms): N/A\nFrame: 0\nFPS: 0");
 		}
 
 		/**
@@ -196,9 +545,83 @@ public class EngineTimer {
 		 * @param nowNanos 当前纳秒
 		 */
 		public void addFrame(double nowNanos) {
-			ms = (ms * FPSL + nowNanos * 1E-6) / (FPSL + 1);
 			FPSL++;
-			text.set(systemInfo + toString());
+			if (0 < lastNanos) {
+				long us = (long) ((nowNanos - lastNanos) * 1E-3);
+				boolean isOverrun = NPF * OVERRUN_RATIO < nowNanos - lastNanos;
+				if (size == SIZE) {
+					// 移出最旧一帧
+					histogram.remove(frames[index]);
+					sum -= frames[index];
+					if (overruns[index]) {
+						overrunWindow--;
+					}
+				} else {
+					size++;
+				}
+				frames[index] = us;
+				overruns[index] = isOverrun;
+				histogram.add(us);
+				sum += us;
+				if (isOverrun) {
+					overrunWindow++;
+					overrunTotal++;
+				}
+				index = (index + 1) % SIZE;
+			}
+			lastNanos = nowNanos;
+			if (debug && PUBLISH_NANOS <= nowNanos - lastPublish) {
+				lastPublish = (long) nowNanos;
+				publish();
+			}
+		}
+
+		/**
+		 * 清空统计
+		 * 
+		 */
+		public void clear() {
+			clearWindow();
+			overrunTotal = lastPublish = 0;
+			lastNanos = 0;
+		}
+
+		/**
+		 * 清空统计窗口，保留累计数据
+		 * 
+		 */
+		public void clearWindow() {
+			histogram.clear();
+			index = size = overrunWindow = 0;
+			sum = 0;
+		}
+
+		// 发布调试文本
+		private void publish() {
+			sb.setLength(0);
+			sb.append(systemInfo);
+			sb.append("\n\nFrame interval(ms): ");
+			appendMillis(sb.append("avg "), getAverage());
+			appendMillis(sb.append(" p50 "), getP50());
+			appendMillis(sb.append(" p95 "), getP95());
+			appendMillis(sb.append(" p99 "), getP99());
+			appendMillis(sb.append(" max "), getMax());
+			sb.append("\nOverrun: ").append(overrunWindow).append('/').append(size);
+			sb.append(" (total ").append(overrunTotal).append(')');
+			frameProfiler.appendTo(sb);
+			sb.append("\nFrame: ").append(FPSL);
+			sb.append("\nFPS: ").append(fpsProperty.get());
+			text.set(sb.toString());
+		}
+
+		// 毫秒保留两位小数
+		private void appendMillis(StringBuilder sb, double ms) {
+			long v = Math.round(ms * 100);
+			sb.append(v / 100).append('.');
+			if (v % 100 < 10) {
+				sb.append('0');
+			}
+			sb.append(v % 100);
 		}
 		
 		public void setSystemInfo(String info) {
@@ -209,8 +632,82 @@ public class EngineTimer {
 			return text.getReadOnlyProperty();
 		}
 
-		public String toString() {
-			return String.format("\n\nAverage frame interval(ms): %.3f\nFrame: %,d\nFPS: %,d", ms, FPSL, fpsProperty.get());
+		/**
+		 * 窗口内平均帧间隔（毫秒）
+		 * 
+		 * @return
+		 */
+		public double getAverage() {
+			return size == 0 ? 0 : sum * 1E-3 / size;
+		}
+
+		/**
+		 * 窗口内帧间隔中位数（毫秒）
+		 * 
+		 * @return
+		 */
+		public double getP50() {
+			return histogram.percentile(.5) * 1E-3;
+		}
+
+		/**
+		 * 窗口内帧间隔 95 百分位（毫秒）
+		 * 
+		 * @return
+		 */
+		public double getP95() {
+			return histogram.percentile(.95) * 1E-3;
+		}
+
+		/**
+		 * 窗口内帧间隔 99 百分位（毫秒）
+		 * 
+		 * @return
+		 */
+		public double getP99() {
+			return histogram.percentile(.99) * 1E-3;
+		}
+
+		/**
+		 * 窗口内最大帧间隔（毫秒）
+		 * 
+		 * @return
+		 */
+		public double getMax() {
+			long max = 0;
+			for (int i = 0; i < size; i++) {
+				if (max < frames[i]) {
+					max = frames[i];
+				}
+			}
+			return max * 1E-3;
+		}
+
+		/**
+		 * 窗口内超时帧数（帧间隔超出帧生成时间 1.5 倍）
+		 * 
+		 * @return
+		 */
+		public int getOverrunWindow() {
+			return overrunWindow;
+		}
+
+		/**
+		 * 累计超时帧数
+		 * 
+		 * @return
+		 */
+		public long getOverrunTotal() {
+			return overrunTotal;
+		}
+
+		/**
+		 * 窗口内帧数
+		 * 
+		 * @return
+		 */
+		public int getSize() {
+			return size;
 		}
 	}
 	
@@ -225,6 +722,7 @@ public class EngineTimer {
 	
 	public void setDebug(boolean debug) {
 		this.debug = debug;
+		this.frameProfiler.setEnabled(debug);
 	}
 
 	/**
@@ -232,7 +730,170 @@ public class EngineTimer {
 	 * 
 	 */
 	public void reset() {
-		nowNanos = lastNanos = deltaNanos = FPSL = 0;
+		hasLast = skipFrame = false;
+		nowNanos = lastNanos = deltaNanos = renderNanos = gameNanos = alpha = FPSL = 0;
+		frameStats.clear();
+		frameProfiler.clear();
+	}
+
+	/**
+	 * 固定步长模式。开启后按逻辑步长追帧执行 onUpdate（超出渲染间隔应有步数后最多再追
+	 * maxSubSteps 次），随后以插值系数执行 onRender。渲染按帧率进行，逻辑速度与脉冲频率
+	 * 和帧率都无关
+	 * 
+	 * @return
+	 */
+	public boolean isFixedStep() {
+		return fixedStep;
+	}
+
+	public void setFixedStep(boolean fixedStep) {
+		this.fixedStep = fixedStep;
+		this.alpha = this.renderNanos = 0;
+	}
+
+	/**
+	 * 每次脉冲最大追帧步数。默认 5
+	 * 
+	 * @return
+	 */
+	public int getMaxSubSteps() {
+		return maxSubSteps;
+	}
+
+	public void setMaxSubSteps(int maxSubSteps) {
+		if (maxSubSteps < 1) {
+			throw new IllegalArgumentException("追帧步数不可小于 1");
+		}
+		this.maxSubSteps = maxSubSteps;
+	}
+
+	/**
+	 * 单次脉冲最大计入帧差（毫秒），超出部分视为卡顿直接丢弃。默认 250
+	 * 
+	 * @return
+	 */
+	public double getMaxFrameMillis() {
+		return maxFrameNanos * 1E-6;
+	}
+
+	public void setMaxFrameMillis(double maxFrameMillis) {
+		if (maxFrameMillis <= 0) {
+			throw new IllegalArgumentException("最大帧差必须大于 0");
+		}
+		this.maxFrameNanos = maxFrameMillis * 1E6;
+	}
+
+	/**
+	 * 以指定脉冲时间执行一次帧更新，等同 FX 脉冲调用，用于基准
+	 * 
+	 * @param now 脉冲时间（纳秒）
+	 */
+	void pulse(long now) {
+		timer.handle(now);
+	}
+
+	/**
+	 * 同步执行若干次帧更新（每次步长为逻辑步长），不依赖脉冲和时钟，用于确定性测试
+	 * 和基准，需在 FX 线程或引擎未启动时调用
+	 * 
+	 * @param frames 帧数
+	 */
+	public void step(int frames) {
+		for (int i = 0; i < frames; i++) {
+			update(SPF);
+		}
+		if (onRender != null) {
+			onRender.handle(alpha);
+		}
+	}
+
+	/**
+	 * 引擎时钟。默认 EngineClock.REAL
+	 * 
+	 * @return
+	 */
+	public EngineClock getClock() {
+		return clock;
+	}
+
+	public void setClock(EngineClock clock) {
+		if (clock == null) {
+			throw new NullPointerException("时钟不可为空");
+		}
+		this.clock = clock;
+		this.hasLast = false;
+	}
+
+	/**
+	 * 快进模式。开启后每次脉冲在 CPU 预算内尽可能多地执行 onUpdate（每次步长为逻辑
+	 * 步长），除最后一次外 isSkipFrame 都为 true，此时页面应跳过场景图写入
+	 * 
+	 * @return
+	 */
+	public boolean isSkip() {
+		return skip;
+	}
+
+	public void setSkip(boolean skip) {
+		this.skip = skip;
+		this.hasLast = false;
+		this.deltaNanos = 0;
+	}
+
+	/**
+	 * 快进模式每次脉冲的 CPU 预算（毫秒）。默认 12
+	 * 
+	 * @return
+	 */
+	public double getSkipBudgetMillis() {
+		return skipBudgetNanos * 1E-6;
+	}
+
+	public void setSkipBudgetMillis(double ms) {
+		if (ms < 0) {
+			throw new IllegalArgumentException("预算不可小于 0");
+		}
+		this.skipBudgetNanos = (long) (ms * 1E6);
+	}
+
+	/**
+	 * 当前帧更新是否为快进中间帧（结果不会被呈现，应跳过场景图写入）
+	 * 
+	 * @return
+	 */
+	public boolean isSkipFrame() {
+		return skipFrame;
+	}
+
+	/**
+	 * 线程模式。开启后游戏逻辑（onSimulate）在独立模拟线程以固定步长执行，FX 线程的
+	 * onUpdate 和 onRender 只负责把最新快照应用到场景图，快照交接见 TripleBuffer
+	 * 
+	 * @return
+	 */
+	public boolean isThreaded() {
+		return threaded;
+	}
+
+	public void setThreaded(boolean threaded) {
+		this.threaded = threaded;
+		if (timer.running) {
+			if (threaded) {
+				startSimulator();
+			} else {
+				stopSimulator();
+			}
+		}
+	}
+
+	/**
+	 * 获取渲染插值系数（固定步长模式下有效，范围 [0, 1)）
+	 * 
+	 * @return
+	 */
+	public double getAlpha() {
+		return alpha;
 	}
 
 	/**
@@ -262,6 +923,15 @@ public class EngineTimer {
 		return deltaNanos;
 	}
 
+	/**
+	 * 获取累计逻辑时间（纳秒），按逻辑步长推进，暂停时不变，不受卡顿积压影响
+	 * 
+	 * @return
+	 */
+	public double getLogicNanos() {
+		return logicNanos;
+	}
+
 	/**
 	 * 获取当前帧（毫秒）
 	 * 
@@ -325,6 +995,69 @@ public class EngineTimer {
 		return fpsProperty;
 	}
 
+	/**
+	 * 帧调度器（FX 线程）
+	 * 
+	 * @return
+	 */
+	public Scheduler getScheduler() {
+		return scheduler;
+	}
+
+	/**
+	 * 开始推进关键帧动画
+	 * 
+	 * @param timeline 关键帧动画
+	 */
+	void attach(EngineTimeline timeline) {
+		timelines.add(timeline);
+	}
+
+	/**
+	 * 停止推进关键帧动画
+	 * 
+	 * @param timeline 关键帧动画
+	 */
+	void detach(EngineTimeline timeline) {
+		timelines.remove(timeline);
+	}
+
+	/**
+	 * 播放中的关键帧动画数
+	 * 
+	 * @return
+	 */
+	int getTimelineCount() {
+		return timelines.size();
+	}
+
+	/**
+	 * 补间管理器（FX 线程）
+	 * 
+	 * @return
+	 */
+	public TweenManager getTweens() {
+		return tweens;
+	}
+
+	/**
+	 * 帧统计
+	 * 
+	 * @return
+	 */
+	public FrameStats getFrameStats() {
+		return frameStats;
+	}
+
+	/**
+	 * 帧分配及 GC 停顿归因（调试模式下记录）
+	 * 
+	 * @return
+	 */
+	public FrameProfiler getFrameProfiler() {
+		return frameProfiler;
+	}
+
 	/**
 	 * Debug 文本监听
 	 * 
@@ -344,7 +1077,7 @@ public class EngineTimer {
 	}
 
 	/**
-	 * 设置帧率
+	 * 设置帧率（渲染频率，不影响逻辑步长）
 	 * 
 	 * @param FPS
 	 */
@@ -356,6 +1089,29 @@ public class EngineTimer {
 		this.NPF = 1E9 / this.FPS;
 	}
 
+	/**
+	 * 获取逻辑帧率
+	 * 
+	 * @return
+	 */
+	public int getStepFPS() {
+		return stepFPS;
+	}
+
+	/**
+	 * 设置逻辑帧率（固定步长、模拟线程、调度器、补间和关键帧动画的步长），失去焦点降帧
+	 * 和帧率调控都不会改变
+	 * 
+	 * @param stepFPS
+	 */
+	public void setStepFPS(int stepFPS) {
+		if (stepFPS < 1) {
+			throw new IllegalArgumentException("帧率不可小于 1 ");
+		}
+		this.stepFPS = stepFPS;
+		this.SPF = 1E9 / stepFPS;
+	}
+
 	/**
 	 * 启动事件
 	 * 
@@ -388,4 +1144,26 @@ public class EngineTimer {
 	protected static interface OnUpdate {
 		void handle(double time);
 	}
+
+	/**
+	 * 逻辑帧更新（线程模式，在模拟线程执行）
+	 * 
+	 * @author 夜雨
+	 * @createdAt 2026-10-17 22:45:52
+	 *
+	 */
+	protected static interface OnSimulate {
+		void handle(double time);
+	}
+
+	/**
+	 * 帧渲染（固定步长模式）
+	 * 
+	 * @author 夜雨
+	 * @createdAt 2026-10-17 22:20:41
+	 *
+	 */
+	protected static interface OnRender {
+		void handle(double alpha);
+	}
 }
\ No newline at end of file
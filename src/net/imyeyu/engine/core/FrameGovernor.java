@@ -0,0 +1,205 @@
+package net.imyeyu.engine.core;
+
+import javafx.event.Event;
+import javafx.event.EventHandler;
+import javafx.scene.Scene;
+import javafx.scene.input.InputEvent;
+import javafx.stage.Stage;
+
+/**
+ * 帧率调控
+ * <p>
+ * 在失去焦点降帧的基础上：窗体最小化或场景空闲（无输入、无过渡动画、无页面标记
+ * 忙碌或脏）时挂起 FX 脉冲，仅保留 idleFPS 的低频帧更新，首个输入事件立即恢复；
+ * 持续掉帧时逐级降低目标帧率，稳定后逐级恢复。调控只改变脉冲和渲染频率，逻辑步长
+ * （EngineTimer.setStepFPS）不变
+ * </p>
+ * 
+ * @author 夜雨
+ * @createdAt 2026-10-18 00:48:26
+ *
+ */
+public final class FrameGovernor {
+
+	// 检查间隔（纳秒）
+	private static final long CHECK_NANOS = 250_000_000L;
+	// 帧率调整后的冷却时间（纳秒）
+	private static final long COOLDOWN_NANOS = 4_000_000_000L;
+	// 窗口内超时帧占比高于此值时降帧
+	private static final double OVERRUN_HIGH = .25;
+	// 窗口内超时帧占比低于此值视为稳定
+	private static final double OVERRUN_LOW = .02;
+	// 降帧最少统计帧数
+	private static final int MIN_SAMPLES = 30;
+
+	private final YeyuEngine engine;
+	private final EngineTimer timer;
+	private final EventHandler<Event> onInput = e -> wake();
+
+	private int fpsMax = 60, fpsMin = 12, idleFPS = 1;
+	private long idleTimeoutNanos = 5_000_000_000L;
+	// 当前自适应目标帧率
+	private int target = 60;
+	private boolean isFocused = true, isIconified = false, isIdle = false;
+	private long lastActivity, lastCheck, cooldownUntil;
+
+	FrameGovernor(YeyuEngine engine, EngineTimer timer) {
+		this.engine = engine;
+		this.timer = timer;
+		this.lastActivity = System.nanoTime();
+	}
+
+	/**
+	 * 安装监听
+	 * 
+	 * @param stage 窗体
+	 * @param scene 场景
+	 */
+	void install(Stage stage, Scene scene) {
+		isFocused = stage.isFocused();
+		isIconified = stage.isIconified();
+		stage.focusedProperty().addListener((obs, o, isFocused) -> {
+			this.isFocused = isFocused;
+			wake();
+		});
+		stage.iconifiedProperty().addListener((obs, o, isIconified) -> {
+			this.isIconified = isIconified;
+			wake();
+		});
+		scene.addEventFilter(InputEvent.ANY, onInput);
+		apply();
+	}
+
+	/**
+	 * 唤醒，重置空闲计时并恢复帧率
+	 * 
+	 */
+	public void wake() {
+		lastActivity = System.nanoTime();
+		isIdle = false;
+		apply();
+	}
+
+	/**
+	 * 帧更新时检查（FX 线程）
+	 * 
+	 */
+	void check() {
+		long now = System.nanoTime();
+		if (now - lastCheck < CHECK_NANOS) {
+			return;
+		}
+		lastCheck = now;
+		// 空闲
+		if (engine.isAnimating()) {
+			lastActivity = now;
+			if (isIdle) {
+				isIdle = false;
+				apply();
+				return;
+			}
+		}
+		if (!isIdle && idleTimeoutNanos < now - lastActivity) {
+			isIdle = true;
+			apply();
+			return;
+		}
+		if (isIdle || isIconified || now < cooldownUntil) {
+			return;
+		}
+		// 掉帧自适应
+		EngineTimer.FrameStats stats = timer.getFrameStats();
+		if (stats.getSize() < MIN_SAMPLES) {
+			return;
+		}
+		double ratio = (double) stats.getOverrunWindow() / stats.getSize();
+		int next = target;
+		if (OVERRUN_HIGH < ratio) {
+			next = Math.max(fpsMin, target * 3 / 4);
+		} else if (ratio < OVERRUN_LOW) {
+			next = Math.min(fpsMax, Math.max(target + 1, target * 4 / 3));
+		}
+		if (next != target) {
+			target = next;
+			cooldownUntil = now + COOLDOWN_NANOS;
+			stats.clearWindow();
+			apply();
+		}
+	}
+
+	// 应用状态
+	private void apply() {
+		if (isIconified || isIdle) {
+			timer.pause(idleFPS);
+		} else {
+			timer.resume(currentFPS());
+		}
+	}
+
+	// 当前应有帧率
+	private int currentFPS() {
+		return isFocused ? target : Math.min(target, fpsMin);
+	}
+
+	/**
+	 * 设置帧率范围
+	 * 
+	 * @param fpsMax 最大帧率（获得焦点）
+	 * @param fpsMin 最小帧率（失去焦点及降帧下限）
+	 */
+	void setRange(int fpsMax, int fpsMin) {
+		this.fpsMax = fpsMax;
+		this.fpsMin = Math.min(fpsMin, fpsMax);
+		this.target = fpsMax;
+	}
+
+	/**
+	 * 空闲帧率。默认 1
+	 * 
+	 * @param idleFPS
+	 */
+	public void setIdleFPS(int idleFPS) {
+		if (idleFPS < 1) {
+			throw new IllegalArgumentException("帧率不可小于 1 ");
+		}
+		this.idleFPS = idleFPS;
+	}
+
+	public int getIdleFPS() {
+		return idleFPS;
+	}
+
+	/**
+	 * 无活动多久后进入空闲（毫秒）。默认 5000
+	 * 
+	 * @param idleTimeout
+	 */
+	public void setIdleTimeout(long idleTimeout) {
+		if (idleTimeout < 1) {
+			throw new IllegalArgumentException("空闲时间不可小于 1");
+		}
+		this.idleTimeoutNanos = idleTimeout * 1000000;
+	}
+
+	public long getIdleTimeout() {
+		return idleTimeoutNanos / 1000000;
+	}
+
+	/**
+	 * 当前自适应目标帧率
+	 * 
+	 * @return
+	 */
+	public int getTarget() {
+		return target;
+	}
+
+	/**
+	 * 是否空闲
+	 * 
+	 * @return
+	 */
+	public boolean isIdle() {
+		return isIdle;
+	}
+}
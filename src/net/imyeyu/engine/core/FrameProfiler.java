@@ -0,0 +1,347 @@
+package net.imyeyu.engine.core;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.GcInfo;
+import com.sun.management.ThreadMXBean;
+
+/**
+ * 帧分配及 GC 停顿归因（调试模式）
+ * <p>
+ * 通过线程分配计数器记录 FX 线程每帧及每个页面每次帧更新分配的字节数，并监听 GC 通知，
+ * 标记与 GC 停顿重叠的帧（帧区间为上一帧结束至本帧结束，包含渲染和脉冲间隔），用于定位
+ * 热点 onUpdate 中的分配和 GC 导致的卡顿。JVM 不支持线程分配计数时只记录 GC。
+ * 线程分配计数和 GC 监听只在启用期间挂载，关闭时移除监听并恢复原先的分配计数设置
+ * </p>
+ * 
+ * @author 夜雨
+ * @createdAt 2026-10-17 23:31:50
+ *
+ */
+public final class FrameProfiler {
+
+	// 统计窗口帧数
+	private static final int SIZE = 240;
+
+	private final ThreadMXBean threadBean;
+	// GC 停顿区间（纳秒，System.nanoTime 基准），由通知线程写入
+	private final Queue<long[]> gcQueue = new ConcurrentLinkedQueue<>();
+	// JVM 启动时间对应的 System.nanoTime
+	private final long uptimeOrigin;
+	private final NotificationListener listener = this::onGC;
+	// 是否已挂载，挂载前是否已开启线程分配计数
+	private boolean attached = false, wasAllocationEnabled;
+
+	// 每帧分配字节、区间（上一帧结束至本帧结束）、是否与 GC 重叠
+	private final long[] allocated = new long[SIZE];
+	private final long[] begins = new long[SIZE];
+	private final long[] ends = new long[SIZE];
+	private final boolean[] gcs = new boolean[SIZE];
+
+	// FX 线程写入，GC 通知线程读取
+	private volatile boolean enabled = false;
+	private int index = 0, size = 0;
+	// 计数器单次读取自身的分配量
+	private long overhead = 0;
+	private long frameMark, frameBegin, lastEnd;
+	private volatile long gcCount = 0, gcNanos = 0;
+
+	// 最近一次帧更新的页面
+	private View lastView;
+	private long lastViewBytes;
+
+	FrameProfiler() {
+		java.lang.management.ThreadMXBean tmb = ManagementFactory.getThreadMXBean();
+		ThreadMXBean bean = null;
+		if (tmb instanceof ThreadMXBean && ((ThreadMXBean) tmb).isThreadAllocatedMemorySupported()) {
+			bean = (ThreadMXBean) tmb;
+		}
+		threadBean = bean;
+		uptimeOrigin = System.nanoTime() - ManagementFactory.getRuntimeMXBean().getUptime() * 1000000;
+	}
+
+	// 开启线程分配计数并监听 GC
+	private void attach() {
+		if (attached) {
+			return;
+		}
+		attached = true;
+		if (threadBean != null) {
+			wasAllocationEnabled = threadBean.isThreadAllocatedMemoryEnabled();
+			threadBean.setThreadAllocatedMemoryEnabled(true);
+			// 校准读取开销
+			long min = Long.MAX_VALUE, a, b;
+			for (int i = 0; i < 8; i++) {
+				a = allocatedBytes();
+				b = allocatedBytes();
+				min = Math.min(min, b - a);
+			}
+			overhead = min;
+		}
+		for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+			if (gc instanceof NotificationEmitter) {
+				((NotificationEmitter) gc).addNotificationListener(listener, null, null);
+			}
+		}
+	}
+
+	// 移除 GC 监听，恢复线程分配计数设置
+	private void detach() {
+		if (!attached) {
+			return;
+		}
+		attached = false;
+		for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+			if (gc instanceof NotificationEmitter) {
+				try {
+					((NotificationEmitter) gc).removeNotificationListener(listener);
+				} catch (ListenerNotFoundException e) {
+					e.printStackTrace();
+				}
+			}
+		}
+		if (threadBean != null && !wasAllocationEnabled) {
+			threadBean.setThreadAllocatedMemoryEnabled(false);
+		}
+	}
+
+	// GC 通知（通知线程）
+	private void onGC(Notification n, Object handback) {
+		if (GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(n.getType())) {
+			GcInfo info = GarbageCollectionNotificationInfo.from((CompositeData) n.getUserData()).getGcInfo();
+			long begin = uptimeOrigin + info.getStartTime() * 1000000;
+			long end = uptimeOrigin + info.getEndTime() * 1000000;
+			gcCount++;
+			gcNanos += end - begin;
+			if (enabled) {
+				gcQueue.offer(new long[] {begin, end});
+			}
+		}
+	}
+
+	// 当前线程累计分配字节
+	private long allocatedBytes() {
+		return threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	/**
+	 * 帧开始（FX 线程）
+	 * 
+	 */
+	void frameBegin() {
+		if (enabled) {
+			frameBegin = System.nanoTime();
+			frameMark = mark();
+		}
+	}
+
+	/**
+	 * 帧结束（FX 线程）
+	 * 
+	 */
+	void frameEnd() {
+		if (enabled) {
+			long now = System.nanoTime();
+			allocated[index] = 0 <= frameMark ? Math.max(0, allocatedBytes() - frameMark - overhead) : 0;
+			// 渲染和脉冲间隔的停顿同样造成卡顿，区间从上一帧结束算起
+			begins[index] = 0 < lastEnd ? lastEnd : frameBegin;
+			ends[index] = now;
+			lastEnd = now;
+			gcs[index] = false;
+			index = (index + 1) % SIZE;
+			if (size < SIZE) {
+				size++;
+			}
+			// 通知在 GC 结束后异步到达，回溯标记重叠的帧
+			long[] gc;
+			while ((gc = gcQueue.poll()) != null) {
+				for (int i = 0; i < size; i++) {
+					if (begins[i] <= gc[1] && gc[0] <= ends[i]) {
+						gcs[i] = true;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * 记录分配起点
+	 * 
+	 * @return 分配计数，未启用或不支持时返回 -1
+	 */
+	long mark() {
+		return enabled && threadBean != null ? allocatedBytes() : -1;
+	}
+
+	/**
+	 * 记录页面一次帧更新的分配量
+	 * 
+	 * @param view 页面
+	 * @param mark mark() 返回值
+	 */
+	void record(View view, long mark) {
+		if (0 <= mark) {
+			lastViewBytes = Math.max(0, allocatedBytes() - mark - overhead);
+			view.allocatedBytes += lastViewBytes;
+			view.updateCount++;
+			lastView = view;
+		}
+	}
+
+	/**
+	 * 清空统计
+	 * 
+	 */
+	void clear() {
+		index = size = 0;
+		lastEnd = 0;
+		lastView = null;
+		lastViewBytes = 0;
+		gcQueue.clear();
+	}
+
+	/**
+	 * 启用或关闭，关闭时移除 GC 监听并恢复线程分配计数设置（引擎计时器停止时同样关闭）
+	 * 
+	 * @param enabled true 为启用
+	 */
+	void setEnabled(boolean enabled) {
+		if (enabled) {
+			attach();
+		}
+		this.enabled = enabled;
+		if (!enabled) {
+			detach();
+			lastEnd = 0;
+			gcQueue.clear();
+		}
+	}
+
+	// 调试文本
+	void appendTo(StringBuilder sb) {
+		sb.append("\nAlloc(KB/frame): ");
+		if (threadBean == null) {
+			sb.append("N/A");
+		} else {
+			sb.append("last ").append(getAllocated(0) >> 10);
+			sb.append(" avg ").append(getAverageAllocated() >> 10);
+			sb.append(" max ").append(getMaxAllocated() >> 10);
+		}
+		sb.append("\nGC frames: ").append(getGCFrames()).append('/').append(size);
+		sb.append(" (").append(gcCount).append(" pauses, ").append(gcNanos / 1000000).append(" ms)");
+		if (lastView != null) {
+			sb.append("\nView ").append(lastView.getClass().getSimpleName()).append("(KB/update): ");
+			sb.append(lastViewBytes >> 10);
+		}
+	}
+
+	/**
+	 * 是否支持线程分配计数
+	 * 
+	 * @return
+	 */
+	public boolean isSupported() {
+		return threadBean != null;
+	}
+
+	/**
+	 * 窗口内帧数
+	 * 
+	 * @return
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * 获取指定帧的分配字节
+	 * 
+	 * @param ago 0 为最近一帧
+	 * @return
+	 */
+	public long getAllocated(int ago) {
+		return size <= ago ? 0 : allocated[(index - 1 - ago + SIZE) % SIZE];
+	}
+
+	/**
+	 * 指定帧是否与 GC 停顿重叠
+	 * 
+	 * @param ago 0 为最近一帧
+	 * @return
+	 */
+	public boolean isGCFrame(int ago) {
+		return ago < size && gcs[(index - 1 - ago + SIZE) % SIZE];
+	}
+
+	/**
+	 * 窗口内平均每帧分配字节
+	 * 
+	 * @return
+	 */
+	public long getAverageAllocated() {
+		if (size == 0) {
+			return 0;
+		}
+		long sum = 0;
+		for (int i = 0; i < size; i++) {
+			sum += allocated[i];
+		}
+		return sum / size;
+	}
+
+	/**
+	 * 窗口内单帧最大分配字节
+	 * 
+	 * @return
+	 */
+	public long getMaxAllocated() {
+		long max = 0;
+		for (int i = 0; i < size; i++) {
+			max = Math.max(max, allocated[i]);
+		}
+		return max;
+	}
+
+	/**
+	 * 窗口内与 GC 停顿重叠的帧数
+	 * 
+	 * @return
+	 */
+	public int getGCFrames() {
+		int n = 0;
+		for (int i = 0; i < size; i++) {
+			if (gcs[i]) {
+				n++;
+			}
+		}
+		return n;
+	}
+
+	/**
+	 * 启用期间累计 GC 次数
+	 * 
+	 * @return
+	 */
+	public long getGCCount() {
+		return gcCount;
+	}
+
+	/**
+	 * 启用期间累计 GC 耗时（毫秒）
+	 * 
+	 * @return
+	 */
+	public double getGCMillis() {
+		return gcNanos * 1E-6;
+	}
+}
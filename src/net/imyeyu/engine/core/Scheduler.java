@@ -0,0 +1,314 @@
+package net.imyeyu.engine.core;
+
+/**
+ * 帧调度器，由 EngineTimer 每次帧更新驱动，在 FX 线程执行任务
+ * <p>
+ * 支持按帧（afterFrames/everyFrames）和按游戏时间毫秒（afterMillis/everyMillis）延时
+ * 或重复执行，游戏时间以每次帧更新的帧生成时间累计，随引擎时钟缩放、快进和挂起。
+ * 内部为两个分层时间轮（每层 256 槽，共 4 层），每 tick 开销为 O(1)，与待执行任务数无关；
+ * 任务节点池化复用，调度和执行不产生分配（节点池扩容除外）
+ * </p>
+ * 示例:
+ * 
+ * <pre>
+ * // 3 秒后关闭提示
+ * long id = Framework.timer.getScheduler().afterMillis(3000, () -&gt; tips.setVisible(false));
+ * // 提前取消
+ * Framework.timer.getScheduler().cancel(id);
+ * </pre>
+ * 
+ * @author 夜雨
+ * @createdAt 2026-10-18 02:41:15
+ *
+ */
+public final class Scheduler {
+
+	// 每层槽位
+	private static final int BITS = 8;
+	private static final int SLOTS = 1 << BITS;
+	private static final int MASK = SLOTS - 1;
+	// 层数，可表示 2^32 tick
+	private static final int LEVELS = 4;
+	private static final long RANGE = 1L << (BITS * LEVELS);
+
+	/**
+	 * 任务节点
+	 * 
+	 */
+	private static final class Node {
+
+		final int index;
+		int gen = 0;
+		boolean isAlive = false;
+		Wheel wheel;
+		long deadline, period;
+		Runnable task;
+		// 所在槽位，未挂载时 level 为 -1
+		int level = -1, slot;
+		Node prev, next;
+
+		Node(int index) {
+			this.index = index;
+		}
+	}
+
+	/**
+	 * 分层时间轮
+	 * 
+	 */
+	private final class Wheel {
+
+		private final Node[][] slots = new Node[LEVELS][SLOTS];
+		private long current = 0;
+		private int size = 0;
+
+		// 挂载
+		void insert(Node node) {
+			long delta = node.deadline - current;
+			// 超出范围时先挂到最远处，到期后重新挂载
+			long due = RANGE <= delta ? current + RANGE - 1 : node.deadline;
+			if (delta < 0) {
+				due = current;
+				delta = 0;
+			}
+			int level = 0;
+			while (level < LEVELS - 1 && (1L << (BITS * (level + 1))) <= delta) {
+				level++;
+			}
+			int slot = (int) (due >>> (BITS * level)) & MASK;
+			Node head = slots[level][slot];
+			node.level = level;
+			node.slot = slot;
+			node.prev = null;
+			node.next = head;
+			if (head != null) {
+				head.prev = node;
+			}
+			slots[level][slot] = node;
+		}
+
+		// 卸载
+		void unlink(Node node) {
+			if (node.level < 0) {
+				return;
+			}
+			if (node.prev != null) {
+				node.prev.next = node.next;
+			} else {
+				slots[node.level][node.slot] = node.next;
+			}
+			if (node.next != null) {
+				node.next.prev = node.prev;
+			}
+			node.prev = node.next = null;
+			node.level = -1;
+		}
+
+		// 推进若干 tick
+		void advance(long ticks) {
+			for (long i = 0; i < ticks; i++) {
+				if (size == 0) {
+					// 没有任务，直接跳过剩余 tick
+					current += ticks - i;
+					return;
+				}
+				current++;
+				// 低层转完一圈时把上层对应槽位的任务下放
+				for (int level = 1; level < LEVELS; level++) {
+					if ((current & ((1L << (BITS * level)) - 1)) != 0) {
+						break;
+					}
+					cascade(level, (int) (current >>> (BITS * level)) & MASK);
+				}
+				fire((int) current & MASK);
+			}
+		}
+
+		private void cascade(int level, int slot) {
+			Node node;
+			while ((node = slots[level][slot]) != null) {
+				unlink(node);
+				insert(node);
+			}
+		}
+
+		private void fire(int slot) {
+			Node node;
+			int gen;
+			while ((node = slots[0][slot]) != null) {
+				unlink(node);
+				if (current < node.deadline) {
+					// 超出范围的任务，重新挂载
+					insert(node);
+					continue;
+				}
+				gen = node.gen;
+				try {
+					node.task.run();
+				} catch (Exception e) {
+					e.printStackTrace();
+				}
+				// 执行期间可能已被取消
+				if (node.gen == gen && node.isAlive) {
+					if (0 < node.period) {
+						node.deadline += node.period;
+						insert(node);
+					} else {
+						free(node);
+					}
+				}
+			}
+		}
+	}
+
+	private final Wheel frames = new Wheel();
+	private final Wheel millis = new Wheel();
+
+	// 节点池
+	private Node[] nodes = new Node[64];
+	private int[] freeStack = new int[64];
+	private int nodeCount = 0, freeCount = 0;
+	// 不足 1 毫秒的游戏时间
+	private double pendingMillis = 0;
+
+	Scheduler() {
+	}
+
+	/**
+	 * N 帧后执行
+	 * 
+	 * @param frames 帧数，小于 1 时按 1 计
+	 * @param task   任务
+	 * @return 任务 ID，用于取消
+	 */
+	public long afterFrames(long frames, Runnable task) {
+		return schedule(this.frames, frames, 0, task);
+	}
+
+	/**
+	 * 每 N 帧执行
+	 * 
+	 * @param frames 间隔帧数，不可小于 1
+	 * @param task   任务
+	 * @return 任务 ID，用于取消
+	 */
+	public long everyFrames(long frames, Runnable task) {
+		if (frames < 1) {
+			throw new IllegalArgumentException("间隔不可小于 1");
+		}
+		return schedule(this.frames, frames, frames, task);
+	}
+
+	/**
+	 * N 毫秒（游戏时间）后执行
+	 * 
+	 * @param ms   毫秒，小于 1 时按 1 计
+	 * @param task 任务
+	 * @return 任务 ID，用于取消
+	 */
+	public long afterMillis(long ms, Runnable task) {
+		return schedule(millis, ms, 0, task);
+	}
+
+	/**
+	 * 每 N 毫秒（游戏时间）执行
+	 * 
+	 * @param ms   间隔毫秒，不可小于 1
+	 * @param task 任务
+	 * @return 任务 ID，用于取消
+	 */
+	public long everyMillis(long ms, Runnable task) {
+		if (ms < 1) {
+			throw new IllegalArgumentException("间隔不可小于 1");
+		}
+		return schedule(millis, ms, ms, task);
+	}
+
+	/**
+	 * 取消任务
+	 * 
+	 * @param id 任务 ID
+	 * @return 任务仍在等待（或正在执行的重复任务）时返回 true
+	 */
+	public boolean cancel(long id) {
+		int index = (int) id;
+		if (index < 0 || nodeCount <= index) {
+			return false;
+		}
+		Node node = nodes[index];
+		if (!node.isAlive || node.gen != (int) (id >>> 32)) {
+			return false;
+		}
+		node.wheel.unlink(node);
+		free(node);
+		return true;
+	}
+
+	/**
+	 * 待执行任务数
+	 * 
+	 * @return
+	 */
+	public int size() {
+		return frames.size + millis.size;
+	}
+
+	/**
+	 * 推进一次帧更新
+	 * 
+	 * @param stepNanos 本次帧更新的游戏时间（纳秒）
+	 */
+	void tick(double stepNanos) {
+		frames.advance(1);
+		pendingMillis += stepNanos * 1E-6;
+		// 抵消浮点累计误差
+		long ms = (long) (pendingMillis + 1E-9);
+		if (0 < ms) {
+			pendingMillis -= ms;
+			millis.advance(ms);
+		}
+	}
+
+	private long schedule(Wheel wheel, long delay, long period, Runnable task) {
+		if (task == null) {
+			throw new NullPointerException("任务不可为空");
+		}
+		Node node = alloc();
+		node.wheel = wheel;
+		node.task = task;
+		node.period = period;
+		node.deadline = wheel.current + Math.max(1, delay);
+		wheel.insert(node);
+		wheel.size++;
+		return ((long) node.gen << 32) | node.index;
+	}
+
+	private Node alloc() {
+		Node node;
+		if (0 < freeCount) {
+			node = nodes[freeStack[--freeCount]];
+		} else {
+			if (nodeCount == nodes.length) {
+				Node[] grown = new Node[nodes.length * 2];
+				System.arraycopy(nodes, 0, grown, 0, nodeCount);
+				nodes = grown;
+				int[] stack = new int[grown.length];
+				System.arraycopy(freeStack, 0, stack, 0, freeCount);
+				freeStack = stack;
+			}
+			node = nodes[nodeCount] = new Node(nodeCount);
+			nodeCount++;
+		}
+		node.isAlive = true;
+		return node;
+	}
+
+	private void free(Node node) {
+		node.wheel.size--;
+		node.isAlive = false;
+		node.gen++;
+		node.task = null;
+		node.wheel = null;
+		freeStack[freeCount++] = node.index;
+	}
+}
@@ -0,0 +1,632 @@
+package net.imyeyu.engine.core;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import javafx.beans.value.WritableDoubleValue;
+import net.imyeyu.engine.utils.CubicBezier;
+
+/**
+ * 补间管理器，由 EngineTimer 每次帧更新驱动，在 FX 线程执行
+ * <p>
+ * 所有补间以结构数组存储（起始值、目标值、时长、已用时间、缓动 ID 等各为一个基本类型数组），
+ * 每 tick 在一个循环内推进全部活动补间，再批量写入目标属性（快进中间帧只推进不写入，
+ * 补间结束时始终写入终值）。时间为游戏时间，随引擎时钟缩放、快进和挂起。
+ * 支持延时、重复、往返、完成回调，以及顺序（sequence）和并行（group）组合，可任意嵌套，
+ * 组合支持延时、重复和完成回调（缓动和往返只用于单个补间）；
+ * 推进和完成不产生分配（数组扩容除外），可用于替代大量 Timeline
+ * </p>
+ * 示例:
+ * 
+ * <pre>
+ * TweenManager tweens = Framework.timer.getTweens();
+ * // 淡入后上移，结束时回调
+ * tweens.sequence(
+ *     tweens.tween(node.opacityProperty(), 1, 300).from(0),
+ *     tweens.pause(100),
+ *     tweens.tween(node.translateYProperty(), -20, 200).ease(TweenManager.EASE_OUT)
+ * ).onDone(() -&gt; ...).start();
+ * // 延时 1 秒后循环播放
+ * tweens.sequence(a, b).delay(1000).repeat(-1).start();
+ * // 无限往返闪烁
+ * long id = tweens.tween(tips.opacityProperty(), .2, 500).repeat(-1).yoyo(true).start();
+ * tweens.cancel(id);
+ * </pre>
+ * 
+ * @author 夜雨
+ * @createdAt 2026-10-18 13:52:06
+ *
+ */
+public final class TweenManager {
+
+	/** 线性缓动 */
+	public static final int LINEAR = 0;
+	/** CSS ease */
+	public static final int EASE = 1;
+	/** CSS ease-in */
+	public static final int EASE_IN = 2;
+	/** CSS ease-out */
+	public static final int EASE_OUT = 3;
+	/** CSS ease-in-out */
+	public static final int EASE_IN_OUT = 4;
+
+	// 缓动曲线表（所有管理器共享），下标为缓动 ID，注册时整体替换
+	private static volatile CubicBezier[] curves = {
+		null,
+		new CubicBezier(.25, .1, .25, 1),
+		new CubicBezier(.42, 0, 1, 1),
+		new CubicBezier(0, 0, .58, 1),
+		new CubicBezier(.42, 0, .58, 1)
+	};
+	private static final Map<CubicBezier, Integer> CURVE_IDS = new IdentityHashMap<>();
+
+	private static final int NONE = -1;
+	// 条目类型
+	private static final byte TWEEN = 0, GROUP = 1;
+
+	/**
+	 * 补间配置，可重复 start 生成多个相同补间。配置本身不占用管理器资源
+	 * 
+	 */
+	public static final class Tween {
+
+		private final TweenManager manager;
+		private final byte kind;
+		private final Tween[] children;
+		private final boolean isSequence;
+		private WritableDoubleValue target;
+		private double from = Double.NaN, to, duration, delay;
+		private int easing = LINEAR, repeat = 0;
+		private boolean yoyo = false;
+		private Runnable onDone;
+		// 组合延时，开始时先执行该等待
+		private Tween gate;
+
+		private Tween(TweenManager manager, WritableDoubleValue target, double to, double duration) {
+			this.manager = manager;
+			this.kind = TWEEN;
+			this.children = null;
+			this.isSequence = false;
+			this.target = target;
+			this.to = to;
+			this.duration = Math.max(0, duration) * 1E6;
+		}
+
+		private Tween(TweenManager manager, Tween[] children, boolean isSequence) {
+			for (int i = 0; i < children.length; i++) {
+				if (children[i] == null) {
+					throw new NullPointerException("补间不可为空");
+				}
+				if (children[i].manager != manager) {
+					throw new IllegalArgumentException("不可组合其他管理器的补间");
+				}
+			}
+			this.manager = manager;
+			this.kind = GROUP;
+			this.children = children.clone();
+			this.isSequence = isSequence;
+		}
+
+		/**
+		 * 起始值，未设置时在开始（延时结束）时读取目标当前值
+		 * 
+		 * @param from 起始值
+		 * @return
+		 */
+		public Tween from(double from) {
+			this.from = from;
+			return this;
+		}
+
+		/**
+		 * 缓动。默认 LINEAR，组合不支持
+		 * 
+		 * @param easing 缓动 ID，见 LINEAR、EASE 等常量或 TweenManager.easing 注册结果
+		 * @return
+		 */
+		public Tween ease(int easing) {
+			if (kind == GROUP) {
+				throw new IllegalStateException("组合不支持缓动");
+			}
+			if (easing < 0 || curves.length <= easing || (easing != LINEAR && curves[easing] == null)) {
+				throw new IllegalArgumentException("未注册的缓动：" + easing);
+			}
+			this.easing = easing;
+			return this;
+		}
+
+		/**
+		 * 缓动，组合不支持
+		 * 
+		 * @param curve 缓动曲线，首次使用时注册
+		 * @return
+		 */
+		public Tween ease(CubicBezier curve) {
+			if (kind == GROUP) {
+				throw new IllegalStateException("组合不支持缓动");
+			}
+			this.easing = easing(curve);
+			return this;
+		}
+
+		/**
+		 * 开始前延时（游戏时间），重复时不再延时
+		 * 
+		 * @param ms 毫秒
+		 * @return
+		 */
+		public Tween delay(double ms) {
+			this.delay = Math.max(0, ms) * 1E6;
+			if (kind == GROUP) {
+				gate = delay == 0 ? null : new Tween(manager, null, 0, 0);
+				if (gate != null) {
+					gate.duration = delay;
+				}
+			}
+			return this;
+		}
+
+		/**
+		 * 额外重复次数。默认 0，组合重复时重新开始全部子项
+		 * 
+		 * @param repeat 次数，-1 为无限重复
+		 * @return
+		 */
+		public Tween repeat(int repeat) {
+			if (repeat < -1) {
+				throw new IllegalArgumentException("重复次数不可小于 -1");
+			}
+			this.repeat = repeat;
+			return this;
+		}
+
+		/**
+		 * 重复时是否往返（每次重复反转方向）。默认 false，组合不支持
+		 * 
+		 * @param yoyo
+		 * @return
+		 */
+		public Tween yoyo(boolean yoyo) {
+			if (kind == GROUP && yoyo) {
+				throw new IllegalStateException("组合不支持往返");
+			}
+			this.yoyo = yoyo;
+			return this;
+		}
+
+		/**
+		 * 完成回调，取消时不触发
+		 * 
+		 * @param onDone 回调
+		 * @return
+		 */
+		public Tween onDone(Runnable onDone) {
+			this.onDone = onDone;
+			return this;
+		}
+
+		/**
+		 * 开始
+		 * 
+		 * @return 补间 ID，用于取消
+		 */
+		public long start() {
+			return manager.start(this);
+		}
+	}
+
+	// 条目（补间和组合），结构数组
+	private int capacity = 64;
+	private int itemCount = 0, freeCount = 0;
+	private int[] freeStack = new int[capacity];
+	private int[] gen = new int[capacity];
+	private boolean[] isAlive = new boolean[capacity];
+	private byte[] kind = new byte[capacity];
+	// 树结构：所属组合、顺序组合中的下一项、首个子项、并行组合中的兄弟项、组合中未完成的数量
+	private int[] parent = new int[capacity], next = new int[capacity];
+	private int[] child = new int[capacity], sibling = new int[capacity];
+	private int[] remaining = new int[capacity];
+	private Runnable[] onDone = new Runnable[capacity];
+	// 组合配置，重复时按配置重新分配子项
+	private Tween[] config = new Tween[capacity];
+	// 补间属性
+	private WritableDoubleValue[] target = new WritableDoubleValue[capacity];
+	private double[] from = new double[capacity], to = new double[capacity];
+	private double[] duration = new double[capacity], elapsed = new double[capacity];
+	private double[] value = new double[capacity];
+	private int[] easing = new int[capacity], repeat = new int[capacity];
+	private boolean[] yoyo = new boolean[capacity], isReversed = new boolean[capacity];
+	private boolean[] isCapture = new boolean[capacity];
+
+	// 活动补间（紧凑排列）及其在活动表中的位置
+	private int[] active = new int[capacity], activeAt = new int[capacity];
+	private int activeCount = 0;
+	// 本 tick 完成的补间
+	private int[] finished = new int[capacity], finishedGen = new int[capacity];
+
+	TweenManager() {
+	}
+
+	/**
+	 * 注册缓动曲线，同一曲线对象只注册一次
+	 * 
+	 * @param curve 缓动曲线
+	 * @return 缓动 ID
+	 */
+	public static int easing(CubicBezier curve) {
+		if (curve == null) {
+			throw new NullPointerException("缓动曲线不可为空");
+		}
+		synchronized (CURVE_IDS) {
+			Integer id = CURVE_IDS.get(curve);
+			if (id == null) {
+				CubicBezier[] old = curves;
+				CubicBezier[] grown = new CubicBezier[old.length + 1];
+				System.arraycopy(old, 0, grown, 0, old.length);
+				grown[old.length] = curve;
+				curves = grown;
+				CURVE_IDS.put(curve, id = old.length);
+			}
+			return id;
+		}
+	}
+
+	/**
+	 * 创建补间配置
+	 * 
+	 * @param target 目标属性
+	 * @param to     目标值
+	 * @param ms     时长（游戏时间毫秒）
+	 * @return 补间配置
+	 */
+	public Tween tween(WritableDoubleValue target, double to, double ms) {
+		if (target == null) {
+			throw new NullPointerException("目标属性不可为空");
+		}
+		return new Tween(this, target, to, ms);
+	}
+
+	/**
+	 * 创建等待，用于顺序组合中的停顿
+	 * 
+	 * @param ms 时长（游戏时间毫秒）
+	 * @return 补间配置
+	 */
+	public Tween pause(double ms) {
+		return new Tween(this, null, 0, ms);
+	}
+
+	/**
+	 * 顺序组合，依次执行，最后一项完成时完成
+	 * 
+	 * @param tweens 子项
+	 * @return 补间配置
+	 */
+	public Tween sequence(Tween... tweens) {
+		return new Tween(this, tweens, true);
+	}
+
+	/**
+	 * 并行组合，同时开始，全部完成时完成
+	 * 
+	 * @param tweens 子项
+	 * @return 补间配置
+	 */
+	public Tween group(Tween... tweens) {
+		return new Tween(this, tweens, false);
+	}
+
+	/**
+	 * 取消补间或组合（包括其全部子项），不触发完成回调，目标属性保持当前值
+	 * 
+	 * @param id 补间 ID
+	 * @return 仍在执行时返回 true
+	 */
+	public boolean cancel(long id) {
+		int index = (int) id;
+		if (!isAlive(index, (int) (id >>> 32))) {
+			return false;
+		}
+		// 取消操作不频繁，直接扫描全部条目找出子孙
+		for (int i = 0; i < itemCount; i++) {
+			if (isAlive[i] && i != index && isDescendant(i, index)) {
+				free(i);
+			}
+		}
+		free(index);
+		return true;
+	}
+
+	/**
+	 * 补间或组合是否仍在执行
+	 * 
+	 * @param id 补间 ID
+	 * @return
+	 */
+	public boolean isRunning(long id) {
+		return isAlive((int) id, (int) (id >>> 32));
+	}
+
+	/**
+	 * 活动补间数
+	 * 
+	 * @return
+	 */
+	public int size() {
+		return activeCount;
+	}
+
+	/**
+	 * 推进一次帧更新
+	 * 
+	 * @param stepNanos 本次帧更新的游戏时间（纳秒）
+	 * @param isSkip    是否为快进中间帧（只推进不写入）
+	 */
+	void tick(double stepNanos, boolean isSkip) {
+		if (activeCount == 0) {
+			return;
+		}
+		CubicBezier[] curves = TweenManager.curves;
+		int finishedCount = 0, i, ease;
+		double e, d, p;
+		// 推进
+		for (int k = 0; k < activeCount; k++) {
+			i = active[k];
+			e = elapsed[i] += stepNanos;
+			if (e < 0) {
+				continue;
+			}
+			if (isCapture[i]) {
+				from[i] = target[i].get();
+				isCapture[i] = false;
+			}
+			d = duration[i];
+			if (d <= e) {
+				p = 1;
+				finished[finishedCount] = i;
+				finishedGen[finishedCount++] = gen[i];
+			} else {
+				p = e / d;
+			}
+			if (isReversed[i]) {
+				p = 1 - p;
+			}
+			ease = easing[i];
+			value[i] = from[i] + (to[i] - from[i]) * (ease == LINEAR ? p : curves[ease].ease(p));
+		}
+		// 批量写入
+		if (!isSkip) {
+			for (int k = 0; k < activeCount; k++) {
+				i = active[k];
+				if (0 <= elapsed[i] && target[i] != null) {
+					target[i].set(value[i]);
+				}
+			}
+		}
+		// 结束处理，回调期间可能增删补间
+		for (int f = 0; f < finishedCount; f++) {
+			i = finished[f];
+			if (!isAlive[i] || gen[i] != finishedGen[f]) {
+				continue;
+			}
+			if (isSkip && target[i] != null) {
+				target[i].set(value[i]);
+			}
+			if (repeat[i] != 0) {
+				if (0 < repeat[i]) {
+					repeat[i]--;
+				}
+				elapsed[i] = duration[i] == 0 ? 0 : elapsed[i] - duration[i];
+				if (yoyo[i]) {
+					isReversed[i] = !isReversed[i];
+				}
+				continue;
+			}
+			// 超出时长的部分计入后续项，顺序组合逐项不累积误差
+			complete(i, elapsed[i] - duration[i]);
+		}
+	}
+
+	private long start(Tween tween) {
+		int index = build(tween, NONE);
+		long id = ((long) gen[index] << 32) | index;
+		activate(index, 0);
+		return id;
+	}
+
+	// 按配置分配条目树
+	private int build(Tween tween, int parent) {
+		if (tween.gate != null) {
+			// 延时组合：外层顺序组合先等待，再执行组合本身
+			int w = entry(GROUP, parent, null);
+			int gate = build(tween.gate, w);
+			int group = entry(GROUP, w, tween);
+			child[w] = gate;
+			next[gate] = group;
+			remaining[w] = 1;
+			return w;
+		}
+		int i = entry(tween.kind, parent, tween);
+		if (tween.kind == TWEEN) {
+			target[i] = tween.target;
+			isCapture[i] = tween.target != null && Double.isNaN(tween.from);
+			from[i] = value[i] = Double.isNaN(tween.from) ? 0 : tween.from;
+			to[i] = tween.to;
+			duration[i] = tween.duration;
+			elapsed[i] = -tween.delay;
+			easing[i] = tween.easing;
+			repeat[i] = tween.repeat;
+			yoyo[i] = tween.yoyo;
+			isReversed[i] = false;
+		}
+		return i;
+	}
+
+	// 分配条目，组合同时分配子项
+	private int entry(byte kind, int parent, Tween tween) {
+		int i = alloc();
+		this.kind[i] = kind;
+		this.parent[i] = parent;
+		this.next[i] = this.child[i] = this.sibling[i] = NONE;
+		this.onDone[i] = tween == null ? null : tween.onDone;
+		if (kind == GROUP) {
+			config[i] = tween;
+			repeat[i] = tween == null ? 0 : tween.repeat;
+			if (tween != null) {
+				link(i, tween);
+			}
+		}
+		return i;
+	}
+
+	// 分配组合的子项
+	private void link(int i, Tween tween) {
+		int last = NONE, c;
+		child[i] = NONE;
+		for (int j = 0; j < tween.children.length; j++) {
+			c = build(tween.children[j], i);
+			if (tween.isSequence) {
+				if (last == NONE) {
+					child[i] = c;
+				} else {
+					next[last] = c;
+				}
+				last = c;
+			} else {
+				sibling[c] = child[i];
+				child[i] = c;
+			}
+		}
+		// 顺序组合只在最后一项完成时计数
+		remaining[i] = tween.isSequence ? Math.min(1, tween.children.length) : tween.children.length;
+	}
+
+	// 开始条目，carry 为上一项结束后已经过的时间（纳秒）
+	private void activate(int i, double carry) {
+		if (kind[i] == TWEEN) {
+			elapsed[i] += carry;
+			activeAt[i] = activeCount;
+			active[activeCount++] = i;
+			return;
+		}
+		if (remaining[i] == 0) {
+			complete(i, carry);
+			return;
+		}
+		int c = child[i], s;
+		while (c != NONE) {
+			// 子项可能立即完成并被回收
+			s = sibling[c];
+			activate(c, carry);
+			c = s;
+		}
+	}
+
+	// 完成条目，触发回调并开始后续项，carry 为结束后已经过的时间（纳秒）
+	private void complete(int i, double carry) {
+		if (kind[i] == GROUP && repeat[i] != 0 && config[i] != null && config[i].children.length != 0) {
+			// 组合重复，重新分配并开始子项
+			if (0 < repeat[i]) {
+				repeat[i]--;
+			}
+			link(i, config[i]);
+			activate(i, carry);
+			return;
+		}
+		Runnable done = onDone[i];
+		int n = next[i], p = parent[i];
+		free(i);
+		if (done != null) {
+			try {
+				done.run();
+			} catch (Exception e) {
+				e.printStackTrace();
+			}
+		}
+		// 回调期间所属组合可能已被取消
+		if (p != NONE && !isAlive[p]) {
+			return;
+		}
+		if (n != NONE) {
+			activate(n, carry);
+		} else if (p != NONE && --remaining[p] == 0) {
+			complete(p, carry);
+		}
+	}
+
+	private boolean isAlive(int index, int gen) {
+		return 0 <= index && index < itemCount && isAlive[index] && this.gen[index] == gen;
+	}
+
+	private boolean isDescendant(int i, int ancestor) {
+		for (int p = parent[i]; p != NONE; p = parent[p]) {
+			if (p == ancestor) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private int alloc() {
+		int i;
+		if (0 < freeCount) {
+			i = freeStack[--freeCount];
+		} else {
+			if (itemCount == capacity) {
+				grow();
+			}
+			i = itemCount++;
+		}
+		isAlive[i] = true;
+		return i;
+	}
+
+	private void free(int i) {
+		if (kind[i] == TWEEN) {
+			// 从活动表移除，末尾补位
+			int at = activeAt[i];
+			if (at < activeCount && active[at] == i) {
+				int last = active[--activeCount];
+				active[at] = last;
+				activeAt[last] = at;
+			}
+			target[i] = null;
+		}
+		isAlive[i] = false;
+		gen[i]++;
+		onDone[i] = null;
+		config[i] = null;
+		freeStack[freeCount++] = i;
+	}
+
+	private void grow() {
+		capacity *= 2;
+		freeStack = Arrays.copyOf(freeStack, capacity);
+		gen = Arrays.copyOf(gen, capacity);
+		isAlive = Arrays.copyOf(isAlive, capacity);
+		kind = Arrays.copyOf(kind, capacity);
+		parent = Arrays.copyOf(parent, capacity);
+		next = Arrays.copyOf(next, capacity);
+		child = Arrays.copyOf(child, capacity);
+		sibling = Arrays.copyOf(sibling, capacity);
+		remaining = Arrays.copyOf(remaining, capacity);
+		onDone = Arrays.copyOf(onDone, capacity);
+		config = Arrays.copyOf(config, capacity);
+		target = Arrays.copyOf(target, capacity);
+		from = Arrays.copyOf(from, capacity);
+		to = Arrays.copyOf(to, capacity);
+		duration = Arrays.copyOf(duration, capacity);
+		elapsed = Arrays.copyOf(elapsed, capacity);
+		value = Arrays.copyOf(value, capacity);
+		easing = Arrays.copyOf(easing, capacity);
+		repeat = Arrays.copyOf(repeat, capacity);
+		yoyo = Arrays.copyOf(yoyo, capacity);
+		isReversed = Arrays.copyOf(isReversed, capacity);
+		isCapture = Arrays.copyOf(isCapture, capacity);
+		active = Arrays.copyOf(active, capacity);
+		activeAt = Arrays.copyOf(activeAt, capacity);
+		finished = Arrays.copyOf(finished, capacity);
+		finishedGen = Arrays.copyOf(finishedGen, capacity);
+	}
+}
\ No newline at end of file
@@ -1,10 +1,28 @@
 package net.imyeyu.engine.core;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 
 import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.effect.Effect;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.Background;
+import javafx.scene.layout.BackgroundImage;
+import javafx.scene.layout.Border;
+import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import net.imyeyu.engine.Framework;
+import net.imyeyu.engine.bean.UpdatePolicy;
+import net.imyeyu.engine.media.SoundServer;
 
 /**
  * 页面
@@ -15,39 +33,184 @@ import javafx.scene.layout.StackPane;
  */
 public abstract class View extends StackPane {
 	
-	// 页面过渡
-	Timeline show, hide;
+	// 注册标记
+	String name;
+	// 页面过渡（引擎时钟驱动）
+	EngineTimeline show, hide;
+	// 帧更新累计分配字节及次数（调试模式）
+	long allocatedBytes, updateCount;
+	// 有待呈现的变化（帧率调控）
+	volatile boolean dirty = false;
+	// 帧更新策略（当前页面、后台页面）
+	private UpdatePolicy policy = UpdatePolicy.FULL, backgroundPolicy = UpdatePolicy.SUSPENDED;
+	// 实际执行间隔（未参与帧更新为 0）、已跳过次数及累计帧差，由引擎维护
+	int interval = 0, ticks = 0;
+	double pendingTime = 0;
+	// 已执行 onPrepare
+	boolean isPrepared = false;
+	// 页面缓存：最近显示序号、估算占用（字节）、已释放待重建、不可释放
+	long shownAt = 0, footprint = 0;
+	boolean isReleased = false, isPinned = false;
+	// 快照过渡：冻结期间移出的节点、背景和边框
+	private List<Node> frozenChildren;
+	private Background frozenBg;
+	private Border frozenBorder;
+	// 页面使用的音效，显示时引用、隐藏时取消引用
+	private List<Runnable> soundRetains, soundReleases;
+	private boolean isSoundRetained = false;
 	
 	/**
-	 * 设置页面显示过渡
+	 * 设置页面显示过渡，按引擎时钟播放
 	 * 
 	 * @param keyFrames 关键帧
 	 */
 	public void setShowKeyFrames(List<KeyFrame> keyFrames) {
 		if (show == null) {
-			show = new Timeline(60);
+			show = new EngineTimeline();
 		}
-		show.getKeyFrames().setAll(keyFrames);
+		show.setKeyFrames(keyFrames);
 	}
 
 	/**
-	 * 设置页面隐藏过渡
+	 * 设置页面隐藏过渡，按引擎时钟播放
 	 * 
 	 * @param keyFrames 关键帧
 	 */
 	public void setHideKeyFrames(List<KeyFrame> keyFrames) {
 		if (hide == null) {
-			hide = new Timeline(60);
+			hide = new EngineTimeline();
 		}
-		hide.getKeyFrames().setAll(keyFrames);
+		hide.setKeyFrames(keyFrames);
 	}
 	
 	/**
-	 * 引擎启动
+	 * 准备阶段，在 onLaunch 前调用一次。以构造器注册的页面在加载线程执行，
+	 * 适合读取资源、解码图片、构建尚未挂载的节点，不可访问已显示的场景图
+	 * 
+	 */
+	protected void onPrepare() {
+		// 子类实现
+	}
+	
+	/**
+	 * 引擎启动（挂载阶段，FX 线程）。以构造器注册的页面在首次使用或预加载完成时调用
 	 * 
 	 */
 	public abstract void onLaunch();
 	
+	/**
+	 * 冻结页面（快照过渡）：栅格化为一张图片替换全部子节点，过渡期间只渲染这张图片。
+	 * 快照不含页面自身的透明度、特效和变换，这些仍作用于冻结后的页面，由过渡动画驱动
+	 * 
+	 */
+	void freeze() {
+		if (frozenChildren != null) {
+			return;
+		}
+		double opacity = getOpacity(), x = getTranslateX(), y = getTranslateY();
+		double scaleX = getScaleX(), scaleY = getScaleY(), rotate = getRotate();
+		Effect effect = getEffect();
+		setOpacity(1);
+		setTranslateX(0);
+		setTranslateY(0);
+		setScaleX(1);
+		setScaleY(1);
+		setRotate(0);
+		setEffect(null);
+		
+		SnapshotParameters params = new SnapshotParameters();
+		params.setFill(Color.TRANSPARENT);
+		WritableImage image = snapshot(params, null);
+		double minX = getBoundsInLocal().getMinX(), minY = getBoundsInLocal().getMinY();
+		
+		setOpacity(opacity);
+		setTranslateX(x);
+		setTranslateY(y);
+		setScaleX(scaleX);
+		setScaleY(scaleY);
+		setRotate(rotate);
+		setEffect(effect);
+		if (image == null || image.getWidth() < 1 || image.getHeight() < 1) {
+			return;
+		}
+		ImageView snapshot = new ImageView(image);
+		snapshot.setManaged(false);
+		snapshot.relocate(minX, minY);
+		frozenChildren = new ArrayList<>(getChildren());
+		frozenBg = getBackground();
+		frozenBorder = getBorder();
+		setBackground(null);
+		setBorder(null);
+		getChildren().setAll(snapshot);
+	}
+	
+	/**
+	 * 解冻页面，恢复原节点
+	 * 
+	 */
+	void thaw() {
+		if (frozenChildren == null) {
+			return;
+		}
+		getChildren().setAll(frozenChildren);
+		setBackground(frozenBg);
+		setBorder(frozenBorder);
+		frozenChildren = null;
+		frozenBg = null;
+		frozenBorder = null;
+	}
+	
+	/**
+	 * 页面缓存超出预算时释放（此时页面不在场景图中）。以构造器注册的页面随后被丢弃，
+	 * 下次使用时重新构造；其余页面需在此清空节点树等资源并返回 true，下次使用时引擎
+	 * 重新执行 onPrepare、onLaunch 重建，返回 false 表示不可释放，之后不再尝试
+	 * 
+	 * @return 默认 false
+	 */
+	protected boolean onRelease() {
+		return false;
+	}
+	
+	/**
+	 * 估算页面占用（字节），用于页面缓存预算。默认按节点数和图片像素估算，
+	 * 持有大量非节点资源（音频、缓存数据等）的页面应覆盖
+	 * 
+	 * @return
+	 */
+	protected long estimateFootprint() {
+		Set<Image> images = Collections.newSetFromMap(new IdentityHashMap<>());
+		return estimate(this, images);
+	}
+	
+	// 每个节点按 1 KB 计，图片按 4 字节每像素计，同一图片只计一次
+	private static long estimate(Node node, Set<Image> images) {
+		long bytes = 1024;
+		if (node instanceof ImageView) {
+			bytes += estimate(((ImageView) node).getImage(), images);
+		}
+		if (node instanceof Region) {
+			Background bg = ((Region) node).getBackground();
+			if (bg != null) {
+				for (BackgroundImage item : bg.getImages()) {
+					bytes += estimate(item.getImage(), images);
+				}
+			}
+		}
+		if (node instanceof Parent) {
+			for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+				bytes += estimate(child, images);
+			}
+		}
+		return bytes;
+	}
+	
+	private static long estimate(Image image, Set<Image> images) {
+		if (image == null || !images.add(image)) {
+			return 0;
+		}
+		return (long) image.getWidth() * (long) image.getHeight() * 4;
+	}
+	
 	/**
 	 * 引擎卸载
 	 * 
@@ -72,6 +235,66 @@ public abstract class View extends StackPane {
 		// 子类实现
 	}
 	
+	/**
+	 * 声明页面使用的音效（建议在 onLaunch 调用）。页面显示期间这些音效保持加载，不会被
+	 * 音效缓存释放，隐藏后可按缓存预算释放
+	 * 
+	 * @param sounds 音效服务
+	 * @param tags   音效
+	 */
+	@SafeVarargs
+	protected final <T> void useSounds(SoundServer<T> sounds, T... tags) {
+		List<T> list = new ArrayList<>(tags.length);
+		for (T t : tags) {
+			list.add(t);
+		}
+		Runnable retain = () -> {
+			for (int i = 0; i < list.size(); i++) {
+				sounds.getCache().retain(list.get(i));
+			}
+		};
+		Runnable release = () -> {
+			for (int i = 0; i < list.size(); i++) {
+				sounds.getCache().release(list.get(i));
+			}
+		};
+		if (soundRetains == null) {
+			soundRetains = new ArrayList<>();
+			soundReleases = new ArrayList<>();
+		}
+		soundRetains.add(retain);
+		soundReleases.add(release);
+		if (isSoundRetained) {
+			retain.run();
+		}
+	}
+	
+	// 页面显示时引用音效
+	void retainSounds() {
+		if (!isSoundRetained && soundRetains != null) {
+			for (int i = 0; i < soundRetains.size(); i++) {
+				soundRetains.get(i).run();
+			}
+		}
+		isSoundRetained = true;
+	}
+	
+	// 页面隐藏时取消引用音效
+	void releaseSounds() {
+		if (isSoundRetained && soundReleases != null) {
+			for (int i = 0; i < soundReleases.size(); i++) {
+				soundReleases.get(i).run();
+			}
+		}
+		isSoundRetained = false;
+	}
+	
+	// 重建前清除音效声明，由 onLaunch 重新声明
+	void clearSounds() {
+		releaseSounds();
+		soundRetains = soundReleases = null;
+	}
+	
 	/**
 	 * 启动帧更新
 	 * 
@@ -81,7 +304,8 @@ public abstract class View extends StackPane {
 	}
 	
 	/**
-	 * 帧更新
+	 * 帧更新。快进模式下 Framework.timer.isSkipFrame() 为 true 的帧不会被呈现，
+	 * 应只推进逻辑，跳过场景图写入
 	 * 
 	 * @param time
 	 */
@@ -89,6 +313,25 @@ public abstract class View extends StackPane {
 		// 子类实现
 	}
 	
+	/**
+	 * 逻辑帧更新（仅线程模式），在模拟线程以固定步长调用。此处不可访问场景图，
+	 * 计算结果应写入 TripleBuffer 发布，再由 onUpdate 或 onRender 在 FX 线程应用
+	 * 
+	 * @param time 步长（纳秒）
+	 */
+	protected void onSimulate(double time) {
+		// 子类实现
+	}
+	
+	/**
+	 * 帧渲染（仅固定步长模式），在本次脉冲全部帧更新后调用
+	 * 
+	 * @param alpha 插值系数，介于上一次与下一次帧更新之间的比例 [0, 1)
+	 */
+	protected void onRender(double alpha) {
+		// 子类实现
+	}
+	
 	/**
 	 * 停止帧更新
 	 * 
@@ -96,4 +339,90 @@ public abstract class View extends StackPane {
 	protected void onStop() {
 		// 子类实现
 	}
+	
+	/**
+	 * 标记页面有待呈现的变化，帧率调控处于空闲时将在下一次低频帧更新时恢复正常帧率，
+	 * 可在任意线程调用
+	 * 
+	 */
+	public void markDirty() {
+		dirty = true;
+	}
+	
+	/**
+	 * 页面是否忙碌（有自行驱动的持续动画或逻辑），忙碌时帧率调控不会进入空闲
+	 * 
+	 * @return 默认 false
+	 */
+	protected boolean isBusy() {
+		return false;
+	}
+	
+	/**
+	 * 设置作为当前页面（或当前会话）时的帧更新策略
+	 * 
+	 * @param policy 策略，默认 FULL
+	 */
+	public void setUpdatePolicy(UpdatePolicy policy) {
+		if (policy == null) {
+			throw new NullPointerException("策略不可为空");
+		}
+		this.policy = policy;
+		refreshActive();
+	}
+	
+	/**
+	 * 设置不是当前页面时（后台）的帧更新策略，后台页面不在场景图中，onUpdate 只应推进逻辑
+	 * 
+	 * @param policy 策略，默认 SUSPENDED
+	 */
+	public void setBackgroundPolicy(UpdatePolicy policy) {
+		if (policy == null) {
+			throw new NullPointerException("策略不可为空");
+		}
+		this.backgroundPolicy = policy;
+		refreshActive();
+	}
+	
+	public UpdatePolicy getUpdatePolicy() {
+		return policy;
+	}
+	
+	public UpdatePolicy getBackgroundPolicy() {
+		return backgroundPolicy;
+	}
+	
+	// 通知引擎重建帧更新列表
+	private void refreshActive() {
+		if (Framework.engine != null) {
+			Framework.engine.refreshActive();
+		}
+	}
+	
+	/**
+	 * 注册标记，未注册时为类名
+	 * 
+	 * @return
+	 */
+	public String getName() {
+		return name == null ? getClass().getSimpleName() : name;
+	}
+	
+	/**
+	 * 帧更新累计分配字节（仅调试模式记录）
+	 * 
+	 * @return
+	 */
+	public long getAllocatedBytes() {
+		return allocatedBytes;
+	}
+	
+	/**
+	 * 帧更新累计次数（仅调试模式记录）
+	 * 
+	 * @return
+	 */
+	public long getUpdateCount() {
+		return updateCount;
+	}
 }
\ No newline at end of file
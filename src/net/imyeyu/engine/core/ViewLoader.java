@@ -0,0 +1,142 @@
+package net.imyeyu.engine.core;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * 懒加载页面（或会话）注册表
+ * <p>
+ * 以构造器注册，首次使用时才构造。准备阶段（构造 + onPrepare）可在加载线程执行，
+ * 挂载阶段（onLaunch 等）由引擎在 FX 线程执行。除 prepare 的异步部分外，本类只在 FX 线程访问
+ * </p>
+ * 
+ * @author 夜雨
+ * @createdAt 2026-10-18 10:05:22
+ *
+ * @param <T> 页面类型
+ */
+final class ViewLoader<T extends View> {
+
+	private final Executor executor;
+	private final Map<String, Supplier<? extends T>> suppliers = new HashMap<>();
+	private final Map<String, CompletableFuture<T>> prepared = new HashMap<>();
+	// 已挂载页面的构造器，释放后用于重建
+	private final Map<String, Supplier<? extends T>> attached = new HashMap<>();
+
+	ViewLoader(Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * 注册
+	 * 
+	 * @param name     标记
+	 * @param supplier 构造器
+	 */
+	void register(String name, Supplier<? extends T> supplier) {
+		if (supplier == null) {
+			throw new NullPointerException("构造器不可为空");
+		}
+		suppliers.put(name, supplier);
+		prepared.remove(name);
+		attached.remove(name);
+	}
+
+	/**
+	 * 移除注册，已在准备的任务完成后丢弃
+	 * 
+	 * @param name 标记
+	 * @return 存在注册时返回 true
+	 */
+	boolean remove(String name) {
+		prepared.remove(name);
+		attached.remove(name);
+		return suppliers.remove(name) != null;
+	}
+
+	/**
+	 * 是否已注册且尚未挂载
+	 * 
+	 * @param name 标记
+	 * @return
+	 */
+	boolean contains(String name) {
+		return suppliers.containsKey(name);
+	}
+
+	/**
+	 * 已挂载的页面被释放，恢复为未加载状态，下次使用时重新构造
+	 * 
+	 * @param name 标记
+	 * @return 该页面以构造器注册时返回 true
+	 */
+	boolean restore(String name) {
+		Supplier<? extends T> supplier = attached.remove(name);
+		if (supplier == null) {
+			return false;
+		}
+		suppliers.put(name, supplier);
+		return true;
+	}
+
+	/**
+	 * 在加载线程准备，重复调用返回同一任务，失败后可再次准备
+	 * 
+	 * @param name 标记
+	 * @return 准备任务
+	 */
+	CompletableFuture<T> prepare(String name) {
+		Supplier<? extends T> supplier = suppliers.get(name);
+		if (supplier == null) {
+			throw new NullPointerException("页面未注册");
+		}
+		CompletableFuture<T> future = prepared.get(name);
+		if (future == null || future.isCompletedExceptionally()) {
+			future = CompletableFuture.supplyAsync(() -> build(supplier), executor);
+			prepared.put(name, future);
+		}
+		return future;
+	}
+
+	/**
+	 * 取出准备好的页面并移出注册表，未开始准备时在当前线程准备，正在准备时等待完成
+	 * 
+	 * @param name 标记
+	 * @return 页面，准备失败时异常
+	 */
+	T take(String name) {
+		Supplier<? extends T> supplier = suppliers.get(name);
+		if (supplier == null) {
+			throw new NullPointerException("页面未注册");
+		}
+		CompletableFuture<T> future = prepared.get(name);
+		T view;
+		if (future == null || future.isCompletedExceptionally()) {
+			view = build(supplier);
+		} else {
+			try {
+				view = future.join();
+			} catch (CompletionException e) {
+				prepared.remove(name);
+				throw e;
+			}
+		}
+		attached.put(name, suppliers.remove(name));
+		prepared.remove(name);
+		return view;
+	}
+
+	private T build(Supplier<? extends T> supplier) {
+		T view = supplier.get();
+		if (view == null) {
+			throw new NullPointerException("构造器返回了空页面");
+		}
+		view.onPrepare();
+		view.isPrepared = true;
+		return view;
+	}
+}
\ No newline at end of file
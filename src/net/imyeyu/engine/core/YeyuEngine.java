@@ -1,9 +1,15 @@
 package net.imyeyu.engine.core;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 
-import javafx.animation.Timeline;
+import javafx.application.Platform;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
@@ -16,6 +22,9 @@ import javafx.stage.Stage;
 import javafx.stage.WindowEvent;
 import net.imyeyu.engine.Framework;
 import net.imyeyu.engine.bean.EngineConfig;
+import net.imyeyu.engine.bean.NavigationPolicy;
+import net.imyeyu.engine.bean.UpdatePolicy;
+import net.imyeyu.engine.trace.Trace;
 import net.imyeyu.px.PixelFX;
 import net.imyeyu.px.extend.BorderX;
 
@@ -37,16 +46,41 @@ public final class YeyuEngine {
 	// 页面
 	private final Map<String, View> views;
 	private final ObjectProperty<View> currentView;
+	// 模拟线程可见的当前页面和会话
+	private volatile View simView;
+	private volatile Dialog<?> simDialog;
 	// 页面过渡
-	private boolean isInBeforeOUT = false;
 	private boolean isInBeforeOUT4Config = false;
-	private Timeline tlOUT, tlIN;
+	private boolean isSnapshotTransition = false;
+	private ViewTransition transition;
+	private final ArrayDeque<ViewTransition> transitionQueue = new ArrayDeque<>();
+	private NavigationPolicy navigationPolicy = NavigationPolicy.COALESCE;
 	// 会话
 	private final Map<String, Dialog<?>> dialogs;
 	private final ObjectProperty<Dialog<?>> currentDialog;
+	// 会话栈（末尾为当前会话）、会话池
+	private final List<Dialog<?>> dialogStack = new ArrayList<>();
+	private final Map<String, DialogPool> dialogPools = new HashMap<>();
+	// 懒加载页面和会话，等待加载完成后切换的目标
+	private final ExecutorService loader;
+	private final ViewLoader<View> lazyViews;
+	private final ViewLoader<Dialog<?>> lazyDialogs;
+	private String pendingView, pendingDialog;
+	// 等待当前会话关闭动画结束后显示的替换会话
+	private Dialog<?> replacing;
+	private boolean isLaunched = false;
+	// 页面缓存，显示序号用于最近最少显示淘汰
+	private long showCounter = 0;
+	private final List<View> cacheBuffer = new ArrayList<>();
+	// 参与帧更新的页面（后台页面、当前页面、当前会话），注册或切换时重建
+	private View[] activeViews = new View[0];
+	private final List<View> activeBuffer = new ArrayList<>();
 	// 游戏主循环
 	private int fpsMax = 60, fpsMin = 12;
 	private final EngineTimer timer;
+	// 帧率调控
+	private boolean isGoverned = false;
+	private final FrameGovernor governor;
 	
 	// 引擎相关
 	private EngineConfig config;
@@ -76,37 +110,30 @@ public final class YeyuEngine {
 		views = new HashMap<>();
 		currentView = new SimpleObjectProperty<>();
 		currentView.addListener((obs, viewOld, viewNew) -> {
+			simView = viewNew;
+			refreshActive();
 			if (viewNew != null) {
 				// 切换事件
 				if (onToggleView != null) {
 					onToggleView.handle();
 				}
-				// 切换页面
-				if (viewOld != null && root.getChildren().contains(viewOld)) {
-					viewOut(viewOld, viewNew);
-				}
-				if (viewOld == null) {
-					viewIn(viewNew);
-				}
-				if (debugBox != null) {
-					debugBox.toFront();
-				}
 			}
 		});
 		// 会话
 		dialogs = new HashMap<>();
 		currentDialog = new SimpleObjectProperty<>();
 		currentDialog.addListener((obs, dialogOld, dialogNew) -> {
-			if (dialogNew != null) {
-				root.getChildren().add(dialogNew);
-				dialogNew.open();
-				
-				dialogNew.onShow();
-				if (debugBox != null) {
-					debugBox.toFront();
-				}
-			}
+			simDialog = dialogNew;
+			refreshActive();
+		});
+		// 懒加载
+		loader = Executors.newSingleThreadExecutor(r -> {
+			Thread t = new Thread(r, "YeyuEngine-Loader");
+			t.setDaemon(true);
+			return t;
 		});
+		lazyViews = new ViewLoader<>(loader);
+		lazyDialogs = new ViewLoader<>(loader);
 		// 关闭事件
 		stage.addEventFilter(WindowEvent.WINDOW_CLOSE_REQUEST, (event) -> {
 			if (onShutdown != null && !onShutdown.handle()) {
@@ -115,6 +142,7 @@ public final class YeyuEngine {
 		});
 		// 帧更新
 		timer = new EngineTimer();
+		governor = new FrameGovernor(this, timer);
 		
 		scene = new Scene(root);
 		stage.setScene(scene);
@@ -133,14 +161,19 @@ public final class YeyuEngine {
 		if (onInit != null) {
 			onInit.handle();
 		}
-		// 页面事件
+		// 页面事件（懒加载页面在首次使用或预加载完成时执行）
 		for (Map.Entry<String, View> view : views.entrySet()) {
+			prepare(view.getValue());
 			view.getValue().onLaunch();
+			view.getValue().footprint = view.getValue().estimateFootprint();
 		}
 		// 会话事件
 		for (Map.Entry<String, Dialog<?>> dialog : dialogs.entrySet()) {
+			prepare(dialog.getValue());
 			dialog.getValue().onLaunch();
+			dialog.getValue().footprint = dialog.getValue().estimateFootprint();
 		}
+		isLaunched = true;
 		// 启动帧更新事件
 		timer.onStart = () -> {
 			// 页面
@@ -151,16 +184,56 @@ public final class YeyuEngine {
 			for (Map.Entry<String, Dialog<?>> dialog : dialogs.entrySet()) {
 				dialog.getValue().onStart();
 			}
+			for (DialogPool pool : dialogPools.values()) {
+				for (int i = 0; i < pool.instances.size(); i++) {
+					pool.instances.get(i).onStart();
+				}
+			}
 		};
 		// 帧更新
+		final FrameProfiler profiler = timer.getFrameProfiler();
 		timer.onUpdate = (time) -> {
+			if (isGoverned) {
+				governor.check();
+			}
+			View[] active = activeViews;
+			View view;
+			long mark;
+			Object event;
+			for (int i = 0; i < active.length; i++) {
+				view = active[i];
+				// 节流，累计帧差到执行时一并传入
+				view.pendingTime += time;
+				if (++view.ticks < view.interval) {
+					continue;
+				}
+				event = Trace.beginUpdate();
+				mark = profiler.mark();
+				view.onUpdate(view.pendingTime);
+				profiler.record(view, mark);
+				Trace.endUpdate(event, view.getName(), view instanceof Dialog);
+				view.ticks = 0;
+				view.pendingTime = 0;
+			}
+		};
+		// 逻辑帧更新（线程模式）
+		timer.onSimulate = (time) -> {
+			View view = simView;
+			if (view != null) {
+				view.onSimulate(time);
+			}
+			Dialog<?> dialog = simDialog;
+			if (dialog != null) {
+				dialog.onSimulate(time);
+			}
+		};
+		// 帧渲染（固定步长模式）
+		timer.onRender = (alpha) -> {
 			if (getCurrentView() != null) {
-				// 当前页面帧更新
-				getCurrentView().onUpdate(time);
+				getCurrentView().onRender(alpha);
 			}
 			if (getCurrentDialog() != null) {
-				// 会话帧更新
-				getCurrentDialog().onUpdate(time);
+				getCurrentDialog().onRender(alpha);
 			}
 		};
 		// 停止帧更新
@@ -173,16 +246,27 @@ public final class YeyuEngine {
 			for (Map.Entry<String, Dialog<?>> dialog : dialogs.entrySet()) {
 				dialog.getValue().onStop();
 			}
-		};
-		// 失去焦点削弱帧更新
-		stage.focusedProperty().addListener((obs, o, isFocused) -> {
-			if (isFocused) {
-				timer.setFPS(fpsMax);
-			} else {
-				timer.setFPS(fpsMin);
+			for (DialogPool pool : dialogPools.values()) {
+				for (int i = 0; i < pool.instances.size(); i++) {
+					pool.instances.get(i).onStop();
+				}
 			}
-		});
+		};
 		timer.start();
+		if (config != null && config.isGovernor()) {
+			// 帧率调控（包含失去焦点削弱帧更新）
+			isGoverned = true;
+			governor.install(stage, scene);
+		} else {
+			// 失去焦点削弱渲染，逻辑步长不变
+			stage.focusedProperty().addListener((obs, o, isFocused) -> {
+				if (isFocused) {
+					timer.setFPS(fpsMax);
+				} else {
+					timer.setFPS(fpsMin);
+				}
+			});
+		}
 		// 启动事件
 		if (onLaunch != null) {
 			onLaunch.handle();
@@ -210,9 +294,19 @@ public final class YeyuEngine {
 	public void setConfig(EngineConfig config) {
 		this.config = config;
 		this.isInBeforeOUT4Config = config.isInBeforeOut();
+		this.isSnapshotTransition = config.isSnapshotTransition();
+		this.navigationPolicy = config.getNavigationPolicy();
 		
 		fpsMax = config.getFPS();
 		fpsMin = config.getFPSMin();
+		timer.setFPS(fpsMax);
+		timer.setStepFPS(config.getStepFPS());
+		timer.setFixedStep(config.isFixedStep());
+		timer.setMaxSubSteps(config.getMaxSubSteps());
+		timer.setThreaded(config.isThreaded());
+		governor.setRange(fpsMax, fpsMin);
+		governor.setIdleFPS(config.getIdleFPS());
+		governor.setIdleTimeout(config.getIdleTimeout());
 		
 		setDebug(config.isDebug());
 		
@@ -258,7 +352,35 @@ public final class YeyuEngine {
 	 * @param view 页面
 	 */
 	public void regView(String name, View view) {
-		views.put(name, view);
+		lazyViews.remove(name);
+		view.name = name;
+		View old = views.put(name, view);
+		if (old != null && old != view) {
+			old.interval = 0;
+		}
+		refreshActive();
+	}
+	
+	/**
+	 * 以构造器注册页面，首次切换、获取或预加载时才构造。构造和 onPrepare 在加载线程执行，
+	 * onLaunch 在 FX 线程执行
+	 * 
+	 * @param name     页面标记
+	 * @param supplier 页面构造器
+	 */
+	public void regView(String name, Supplier<? extends View> supplier) {
+		unregView(name);
+		lazyViews.register(name, supplier);
+	}
+	
+	/**
+	 * 在加载线程预加载页面，完成后在 FX 线程挂载，之后切换到该页面不再等待。
+	 * 已加载或非懒加载的页面忽略
+	 * 
+	 * @param name 页面标记
+	 */
+	public void preloadView(String name) {
+		preload(lazyViews, views, name, null);
 	}
 	
 	/**
@@ -267,22 +389,31 @@ public final class YeyuEngine {
 	 * @param name 页面标记
 	 */
 	public void unregView(String name) {
+		lazyViews.remove(name);
 		if (views.get(name) != null) {
-			if (views.get(name) == getCurrentView()) {
+			if (views.get(name) == getCurrentView() || (transition != null && views.get(name) == transition.from)) {
 				throw new SecurityException("当前页面正在显示，无法移除");
 			}
-			views.remove(name);
+			views.remove(name).interval = 0;
+			refreshActive();
 		}
 	}
 	
 	/**
-	 * 获取指定页面
+	 * 获取指定页面，懒加载或已释放的页面在当前线程（FX 线程）同步加载
 	 * 
 	 * @param name 页面标记
 	 * @return
 	 */
 	public View getView(String name) {
-		return views.get(name);
+		if (lazyViews.contains(name)) {
+			return attach(lazyViews, views, name);
+		}
+		View view = views.get(name);
+		if (view != null) {
+			rehydrate(view);
+		}
+		return view;
 	}
 	
 	/**
@@ -313,67 +444,214 @@ public final class YeyuEngine {
 	}
 	
 	/**
-	 * 页面切换
+	 * 页面切换，懒加载页面尚未加载时在加载完成后切换，期间保持当前页面，
+	 * 多次请求以最后一次为准。过渡进行中再次切换时按 EngineConfig.navigationPolicy 合并或排队
 	 * 
 	 * @param name        页面标记
 	 * @param inBeforeOut 新页面是否在旧页面过渡前插入
 	 */
 	public void gotoView(String name, boolean inBeforeOut) {
+		if (lazyViews.contains(name)) {
+			wake();
+			pendingView = name;
+			preload(lazyViews, views, name, () -> {
+				if (name.equals(pendingView)) {
+					pendingView = null;
+					gotoView(name, inBeforeOut);
+				}
+			});
+			return;
+		}
+		pendingView = null;
 		View target = views.get(name);
-		if (target != null) {
-			this.tlIN = target.show;
-			this.tlOUT = getCurrentView() == null ? null : getCurrentView().hide;
-			this.isInBeforeOUT = inBeforeOut;
-			currentView.set(target);
-		} else {
+		if (target == null) {
 			throw new NullPointerException("页面未注册");
 		}
+		wake();
+		rehydrate(target);
+		if (transition != null) {
+			if (navigationPolicy == NavigationPolicy.QUEUE) {
+				transitionQueue.add(new ViewTransition(name, inBeforeOut));
+				return;
+			}
+			// 合并到最后一次请求
+			if (transition.to == target) {
+				return;
+			}
+			if (transition.retarget(target)) {
+				currentView.set(target);
+				return;
+			}
+			transition.cancel();
+		}
+		if (target == getCurrentView()) {
+			nextTransition();
+			return;
+		}
+		transition = new ViewTransition(name, inBeforeOut);
+		transition.start(getCurrentView(), target);
+	}
+	
+	// 执行排队中的下一个页面切换
+	private void nextTransition() {
+		ViewTransition next = transitionQueue.poll();
+		if (next != null) {
+			gotoView(next.name, next.inBeforeOut);
+		}
 	}
 	
 	/**
-	 * 页面进入
+	 * 页面过渡，每次切换一个对象。旧页面执行隐藏过渡后移除，新页面在旧页面过渡前或后插入
+	 * 并执行显示过渡，两者都结束后完成
 	 * 
-	 * @param view
+	 * @author 夜雨
+	 * @createdAt 2026-10-18 11:32:08
+	 *
 	 */
-	private void viewIn(View view) {
-		if (view != null) {
-			if (isInBeforeOUT) {
-				root.getChildren().add(0, view);
+	private final class ViewTransition {
+		
+		final String name;
+		final boolean inBeforeOut;
+		View from, to;
+		// 旧页面隐藏中、新页面显示中、新页面已插入
+		private boolean isOut = false, isIn = false, isEntered = false;
+		private Object event;
+		
+		ViewTransition(String name, boolean inBeforeOut) {
+			this.name = name;
+			this.inBeforeOut = inBeforeOut;
+		}
+		
+		void start(View from, View to) {
+			this.from = from;
+			this.to = to;
+			event = Trace.beginTransition(from == null ? null : from.getName(), to.getName());
+			currentView.set(to);
+			if (from != null && root.getChildren().contains(from)) {
+				if (from.hide != null) {
+					isOut = true;
+					if (isSnapshotTransition) {
+						// 栅格化旧页面，立即移出节点
+						from.freeze();
+					}
+					if (inBeforeOut) {
+						enter();
+					}
+					from.hide.setOnFinished(() -> {
+						if (isOut) {
+							isOut = false;
+							exit();
+						}
+					});
+					from.hide.playFromStart();
+					return;
+				}
+				exit();
 			} else {
-				root.getChildren().add(view);
+				enter();
+			}
+		}
+		
+		/**
+		 * 旧页面尚未隐藏完且新页面未插入时，直接改为切换到其他页面
+		 * 
+		 * @param target 新目标
+		 * @return 已改变目标时返回 true
+		 */
+		boolean retarget(View target) {
+			if (!isOut || isEntered || target == from) {
+				return false;
+			}
+			Trace.endTransition(event);
+			event = Trace.beginTransition(from.getName(), target.getName());
+			to = target;
+			return true;
+		}
+		
+		/**
+		 * 中断，正在执行的过渡直接跳到结束状态
+		 * 
+		 */
+		void cancel() {
+			if (isOut) {
+				isOut = false;
+				finish(from.hide);
+				exit();
+			}
+			if (isIn) {
+				isIn = false;
+				finish(to.show);
+				to.thaw();
+			}
+			complete();
+		}
+		
+		// 旧页面移除
+		private void exit() {
+			from.thaw();
+			from.onHide();
+			root.getChildren().remove(from);
+			cache(from);
+			// 新页面先引用音效，两页共用的音效不会在切换间隙被释放
+			if (!isEntered) {
+				enter();
+				from.releaseSounds();
+			} else {
+				from.releaseSounds();
+				complete();
+			}
+		}
+		
+		// 新页面插入
+		private void enter() {
+			isEntered = true;
+			to.shownAt = ++showCounter;
+			if (inBeforeOut) {
+				root.getChildren().add(0, to);
+			} else {
+				root.getChildren().add(to);
 			}
 			if (debugBox != null) {
 				debugBox.toFront();
 			}
-			view.onShow();
-			if (tlIN != null) {
-				tlIN.play();
+			to.retainSounds();
+			to.onShow();
+			if (to.show != null) {
+				isIn = true;
+				if (isSnapshotTransition) {
+					// 过渡期间以快照显示
+					to.freeze();
+				}
+				to.show.setOnFinished(() -> {
+					if (isIn) {
+						isIn = false;
+						to.thaw();
+						complete();
+					}
+				});
+				to.show.playFromStart();
+			} else {
+				complete();
 			}
 		}
-	}
-	
-	/**
-	 * 页面退出
-	 * 
-	 * @param viewOld 旧页面
-	 * @param viewNew 新页面
-	 */
-	private void viewOut(View viewOld, View viewNew) {
-		if (tlOUT != null) {
-			if (isInBeforeOUT) { // 新页面在旧页面过渡前插入
-				viewIn(viewNew);
+		
+		private void complete() {
+			if (isOut || isIn || transition != this) {
+				return;
 			}
-			tlOUT.setOnFinished(event -> {
-				viewOld.onHide();
-				root.getChildren().remove(viewOld);
-				if (!isInBeforeOUT) {
-					viewIn(viewNew);
-				}
-			});
-			tlOUT.play();
-		} else {
-			root.getChildren().remove(viewOld);
-			viewIn(viewNew);
+			Trace.endTransition(event);
+			transition = null;
+			nextTransition();
+		}
+		
+		// 跳到结束状态并停止，不触发 onFinished
+		private void finish(EngineTimeline timeline) {
+			timeline.setOnFinished(null);
+			timeline.jumpToEnd();
+		}
+		
+		boolean isRunning() {
+			return isOut || isIn;
 		}
 	}
 	
@@ -384,17 +662,59 @@ public final class YeyuEngine {
 	 * @param dialog 
 	 */
 	public void regDialog(String name, Dialog<?> dialog) {
+		lazyDialogs.remove(name);
+		dialogPools.remove(name);
+		dialog.name = name;
 		dialogs.put(name, dialog);
 	}
 	
+	/**
+	 * 以构造器注册会话，首次显示、获取或预加载时才构造
+	 * 
+	 * @param name     会话名称
+	 * @param supplier 会话构造器
+	 * @see #regView(String, Supplier)
+	 */
+	public void regDialog(String name, Supplier<? extends Dialog<?>> supplier) {
+		unregDialog(name);
+		lazyDialogs.register(name, supplier);
+	}
+	
+	/**
+	 * 以会话池注册会话，每次显示从池中取出实例（没有空闲实例时构造），关闭后回收，
+	 * 同一会话可在会话栈中同时显示多个。池内实例不通过 getDialog 获取，
+	 * 应使用 dialogShow、dialogPush 返回的实例
+	 * 
+	 * @param name     会话名称
+	 * @param factory  会话构造器
+	 * @param capacity 最多保留的空闲实例数
+	 */
+	public void regDialogPool(String name, Supplier<? extends Dialog<?>> factory, int capacity) {
+		DialogPool pool = new DialogPool(factory, capacity);
+		unregDialog(name);
+		dialogPools.put(name, pool);
+	}
+	
+	/**
+	 * 预加载会话
+	 * 
+	 * @param name 会话名称
+	 * @see #preloadView(String)
+	 */
+	public void preloadDialog(String name) {
+		preload(lazyDialogs, dialogs, name, null);
+	}
+	
 	/**
 	 * 移除注册会话，非必要不调用
 	 * 
 	 * @param type 会话名称
 	 */
 	public void unregDialog(String type) {
+		lazyDialogs.remove(type);
+		dialogPools.remove(type);
 		if (dialogs.get(type) != null) {
-			if (dialogs.get(type) == currentDialog.get()) {
+			if (dialogStack.contains(dialogs.get(type))) {
 				throw new SecurityException("当前会话正在显示，无法移除");
 			}
 			dialogs.remove(type);
@@ -408,7 +728,14 @@ public final class YeyuEngine {
 	 * @return
 	 */
 	public Dialog<?> getDialog(String name) {
-		return dialogs.get(name);
+		if (lazyDialogs.contains(name)) {
+			return attach(lazyDialogs, dialogs, name);
+		}
+		Dialog<?> dialog = dialogs.get(name);
+		if (dialog != null) {
+			rehydrate(dialog);
+		}
+		return dialog;
 	}
 	
 	/**
@@ -430,43 +757,431 @@ public final class YeyuEngine {
 	}
 	
 	/**
-	 * 显示会话
+	 * 显示会话，替换当前会话（当前会话执行关闭动画后显示），栈中下层会话不受影响
 	 * 
 	 * @param name 会话名称
+	 * @return 显示的会话，懒加载会话尚未加载时为 null（加载完成后显示）
 	 */
-	public void dialogShow(String name) {
-		if (dialogs.get(name) != null) {
-			Dialog<?> dialog = currentDialog.get();
-			if (dialog != null) { // 已存在会话
-				dialog.onClose = () -> {
-					root.getChildren().remove(dialog);
-					dialog.onHide();
-					currentDialog.set(dialogs.get(name));
-				};
-				dialog.close();
-			} else {
-				currentDialog.set(dialogs.get(name));
-			}
+	public Dialog<?> dialogShow(String name) {
+		return showDialog(name, false);
+	}
+	
+	/**
+	 * 压入会话，显示在当前会话之上。下层会话保留状态，冻结为快照显示，不再帧更新和接收输入，
+	 * 直到上层会话关闭
+	 * 
+	 * @param name 会话名称
+	 * @return 显示的会话，懒加载会话尚未加载时为 null（加载完成后显示）
+	 */
+	public Dialog<?> dialogPush(String name) {
+		return showDialog(name, true);
+	}
+	
+	private Dialog<?> showDialog(String name, boolean isPush) {
+		if (lazyDialogs.contains(name)) {
+			wake();
+			pendingDialog = name;
+			preload(lazyDialogs, dialogs, name, () -> {
+				if (name.equals(pendingDialog)) {
+					pendingDialog = null;
+					showDialog(name, isPush);
+				}
+			});
+			return null;
+		}
+		pendingDialog = null;
+		if (!isPush) {
+			// 关闭动画中再次替换，之前的替换目标不再显示
+			releaseReplacing();
+		}
+		Dialog<?> top = getCurrentDialog();
+		Dialog<?> target;
+		DialogPool pool = dialogPools.get(name);
+		if (pool != null) {
+			target = obtain(name, pool);
 		} else {
-			throw new NullPointerException(name.toString() + "会话未注册");
+			target = dialogs.get(name);
+			if (target == null) {
+				throw new NullPointerException(name.toString() + "会话未注册");
+			}
+			if (dialogStack.contains(target) && (isPush || target != top)) {
+				throw new SecurityException("会话已在显示");
+			}
+			rehydrate(target);
+		}
+		wake();
+		if (top != null && isPush) {
+			// 结束当前会话的动画再冻结，关闭中的会话将直接完成关闭
+			top.settle();
+			top = getCurrentDialog();
+			if (top != null) {
+				// 完成关闭后显示的替换会话同样需要结束显示动画
+				top.settle();
+			}
+		}
+		if (top == null) {
+			openDialog(target);
+		} else if (isPush) {
+			top.freeze();
+			top.setMouseTransparent(true);
+			openDialog(target);
+		} else { // 替换当前会话
+			final Dialog<?> closing = top;
+			replacing = target;
+			closing.onClose = () -> {
+				Dialog<?> next = replacing == target ? target : null;
+				replacing = null;
+				closeDialog(closing, next);
+			};
+			closing.close();
 		}
+		return target;
 	}
 	
 	/**
-	 * 关闭会话
+	 * 关闭当前会话（栈顶），下层会话恢复
 	 * 
 	 */
 	public void dialogClose() {
 		Dialog<?> dialog = currentDialog.get();
 		if (dialog != null) {
-			dialog.onClose = () -> {
-				root.getChildren().remove(dialog);
-				dialog.onHide();
-				currentDialog.set(null);
-			};
+			wake();
+			releaseReplacing();
+			dialog.onClose = () -> closeDialog(dialog, null);
 			dialog.close();
+		}
+	}
+	
+	/**
+	 * 会话栈深度
+	 * 
+	 * @return
+	 */
+	public int getDialogDepth() {
+		return dialogStack.size();
+	}
+	
+	// 会话入栈并显示
+	private void openDialog(Dialog<?> dialog) {
+		dialogStack.add(dialog);
+		dialog.setMouseTransparent(false);
+		currentDialog.set(dialog);
+		root.getChildren().add(dialog);
+		dialog.open();
+		
+		dialog.shownAt = ++showCounter;
+		dialog.retainSounds();
+		dialog.onShow();
+		if (debugBox != null) {
+			debugBox.toFront();
+		}
+	}
+	
+	/**
+	 * 会话关闭动画结束后出栈
+	 * 
+	 * @param dialog 会话
+	 * @param next   替换显示的会话，为 null 时恢复下层会话
+	 */
+	private void closeDialog(Dialog<?> dialog, Dialog<?> next) {
+		root.getChildren().remove(dialog);
+		dialog.onHide();
+		dialog.releaseSounds();
+		dialogStack.remove(dialog);
+		if (next != null) {
+			openDialog(next);
+		} else {
+			Dialog<?> below = dialogStack.isEmpty() ? null : dialogStack.get(dialogStack.size() - 1);
+			if (below != null) {
+				below.thaw();
+				below.setMouseTransparent(false);
+			}
+			currentDialog.set(below);
+		}
+		DialogPool pool = dialogPools.get(dialog.name);
+		if (pool != null && pool.instances.contains(dialog)) {
+			dialog.interval = 0;
+			pool.offer(dialog);
 		} else {
+			cache(dialog);
+		}
+	}
+	
+	// 释放未显示的替换会话，池化实例归还会话池
+	private void releaseReplacing() {
+		Dialog<?> dialog = replacing;
+		if (dialog == null) {
+			return;
+		}
+		replacing = null;
+		DialogPool pool = dialogPools.get(dialog.name);
+		if (pool != null && pool.instances.contains(dialog)) {
+			dialog.interval = 0;
+			pool.offer(dialog);
+		}
+	}
+	
+	// 从会话池取出实例，新构造的实例执行准备和启动事件
+	private Dialog<?> obtain(String name, DialogPool pool) {
+		Dialog<?> dialog = pool.poll();
+		if (dialog == null) {
+			dialog = pool.create();
+			dialog.name = name;
+			prepare(dialog);
+			dialog.onLaunch();
+			if (timer.isRunning()) {
+				dialog.onStart();
+			}
+		}
+		return dialog;
+	}
+	
+	/**
+	 * 是否有过渡动画、会话动画或忙碌的页面（帧率调控据此判断空闲）
+	 * 
+	 * @return
+	 */
+	boolean isAnimating() {
+		boolean isAnimating = transition != null && transition.isRunning();
+		isAnimating |= 0 < timer.getTweens().size() || 0 < timer.getTimelineCount();
+		View view = getCurrentView();
+		if (view != null) {
+			isAnimating |= view.dirty || view.isBusy();
+			view.dirty = false;
+		}
+		Dialog<?> dialog = getCurrentDialog();
+		if (dialog != null) {
+			isAnimating |= dialog.dirty || dialog.isBusy() || dialog.isAnimating();
+			dialog.dirty = false;
+		}
+		// 后台页面
+		View[] active = activeViews;
+		for (int i = 0; i < active.length; i++) {
+			if (active[i] != view && active[i] != dialog) {
+				isAnimating |= active[i].dirty || active[i].isBusy();
+				active[i].dirty = false;
+			}
+		}
+		return isAnimating;
+	}
+	
+	// 非懒加载页面在启动时准备
+	private void prepare(View view) {
+		if (!view.isPrepared) {
+			view.onPrepare();
+			view.isPrepared = true;
+		}
+	}
+	
+	/**
+	 * 在加载线程准备懒加载页面，完成后在 FX 线程挂载
+	 * 
+	 * @param loader 懒加载注册表
+	 * @param map    已加载页面
+	 * @param name   标记
+	 * @param then   挂载后执行，准备失败时不执行
+	 */
+	private <T extends View> void preload(ViewLoader<T> loader, Map<String, T> map, String name, Runnable then) {
+		if (!loader.contains(name)) {
+			if (then != null) {
+				then.run();
+			}
+			return;
+		}
+		loader.prepare(name).whenComplete((view, e) -> Platform.runLater(() -> {
+			if (e != null) {
+				e.printStackTrace();
+				return;
+			}
+			if (loader.contains(name)) {
+				attach(loader, map, name);
+			}
+			if (then != null) {
+				then.run();
+			}
+		}));
+	}
+	
+	/**
+	 * 挂载懒加载页面（FX 线程），引擎已启动时执行 onLaunch，帧更新已启动时执行 onStart
+	 * 
+	 * @param loader 懒加载注册表
+	 * @param map    已加载页面
+	 * @param name   标记
+	 * @return 页面
+	 */
+	private <T extends View> T attach(ViewLoader<T> loader, Map<String, T> map, String name) {
+		T view = loader.take(name);
+		view.name = name;
+		map.put(name, view);
+		if (isLaunched) {
+			view.onLaunch();
+			if (timer.isRunning()) {
+				view.onStart();
+			}
+			view.footprint = view.estimateFootprint();
 		}
+		// 刚加载的页面视为最近使用，避免预加载后立即被淘汰
+		view.shownAt = ++showCounter;
+		refreshActive();
+		trimCache();
+		return view;
+	}
+	
+	/**
+	 * 重建已释放的页面
+	 * 
+	 * @param view 页面
+	 */
+	private void rehydrate(View view) {
+		if (view.isReleased) {
+			view.isReleased = false;
+			view.clearSounds();
+			view.onPrepare();
+			view.onLaunch();
+			if (timer.isRunning()) {
+				view.onStart();
+			}
+			view.footprint = view.estimateFootprint();
+		}
+	}
+	
+	/**
+	 * 页面隐藏后更新估算占用，并检查缓存预算
+	 * 
+	 * @param view 页面
+	 */
+	private void cache(View view) {
+		view.footprint = view.estimateFootprint();
+		trimCache();
+	}
+	
+	/**
+	 * 页面缓存超出预算时，按最近最少显示释放后台页面（当前页面、当前会话、仍在场景图中
+	 * 和后台仍在帧更新的页面除外）
+	 * 
+	 */
+	private void trimCache() {
+		long budget = config == null ? 0 : config.getViewBudget();
+		if (budget <= 0 || !isLaunched) {
+			return;
+		}
+		long total = 0;
+		cacheBuffer.clear();
+		for (View view : views.values()) {
+			if (!view.isReleased) {
+				total += view.footprint;
+				if (isEvictable(view)) {
+					cacheBuffer.add(view);
+				}
+			}
+		}
+		for (Dialog<?> dialog : dialogs.values()) {
+			if (!dialog.isReleased) {
+				total += dialog.footprint;
+				if (isEvictable(dialog)) {
+					cacheBuffer.add(dialog);
+				}
+			}
+		}
+		if (total <= budget) {
+			cacheBuffer.clear();
+			return;
+		}
+		cacheBuffer.sort((a, b) -> Long.compare(a.shownAt, b.shownAt));
+		boolean isEvicted = false;
+		for (int i = 0; i < cacheBuffer.size() && budget < total; i++) {
+			View view = cacheBuffer.get(i);
+			if (release(view)) {
+				total -= view.footprint;
+				isEvicted = true;
+			}
+		}
+		cacheBuffer.clear();
+		if (isEvicted) {
+			refreshActive();
+		}
+	}
+	
+	private boolean isEvictable(View view) {
+		return !view.isPinned && view != getCurrentView() && view != getCurrentDialog()
+				&& view.getBackgroundPolicy().isSuspended() && !root.getChildren().contains(view);
+	}
+	
+	/**
+	 * 释放页面，以构造器注册的丢弃实例，其余由 onRelease 清空并标记待重建
+	 * 
+	 * @param view 页面
+	 * @return 已释放时返回 true
+	 */
+	private boolean release(View view) {
+		boolean isReleased = view.onRelease();
+		boolean isDialog = view instanceof Dialog;
+		if ((isDialog ? lazyDialogs : lazyViews).restore(view.name)) {
+			(isDialog ? dialogs : views).remove(view.name);
+			view.interval = 0;
+		} else if (isReleased) {
+			view.isReleased = true;
+		} else {
+			view.isPinned = true;
+			return false;
+		}
+		return true;
+	}
+	
+	/**
+	 * 重建参与帧更新的页面列表：策略不为挂起的后台页面、当前页面、当前会话，
+	 * 执行间隔有变化的页面重新开始累计
+	 * 
+	 */
+	void refreshActive() {
+		View view = getCurrentView();
+		Dialog<?> dialog = getCurrentDialog();
+		activeBuffer.clear();
+		for (View item : views.values()) {
+			if (item != view && item != dialog) {
+				activate(item, item.getBackgroundPolicy());
+			}
+		}
+		if (view != null) {
+			activate(view, view.getUpdatePolicy());
+		}
+		for (Dialog<?> item : dialogs.values()) {
+			if (item != dialog) {
+				item.interval = 0;
+			}
+		}
+		if (dialog != null) {
+			activate(dialog, dialog.getUpdatePolicy());
+		}
+		activeViews = activeBuffer.toArray(new View[activeBuffer.size()]);
+	}
+	
+	private void activate(View view, UpdatePolicy policy) {
+		if (view.interval != policy.getInterval()) {
+			view.interval = policy.getInterval();
+			view.ticks = 0;
+			view.pendingTime = 0;
+		}
+		if (!policy.isSuspended()) {
+			activeBuffer.add(view);
+		}
+	}
+	
+	// 唤醒帧率调控
+	private void wake() {
+		if (isGoverned) {
+			governor.wake();
+		}
+	}
+	
+	/**
+	 * 帧率调控
+	 * 
+	 * @return
+	 */
+	public FrameGovernor getGovernor() {
+		return governor;
 	}
 	
 	/**
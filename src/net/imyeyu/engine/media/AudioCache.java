@@ -0,0 +1,332 @@
+package net.imyeyu.engine.media;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+/**
+ * 音频资源缓存
+ * <p>
+ * 以服务的标记类型为键，记录每项解码后占用的字节数和引用数（页面显示时 retain，隐藏时 release，
+ * 见 View.useSounds）。
+ * 总占用超出预算时，按最近最少使用释放没有引用且可重新加载的项；被释放的项在下次 get、retain
+ * 或 load 时在后台线程重新加载，加载期间 get 返回 null。以 put 直接放入的项无法重新加载，不会释放。
+ * get 可在任意线程调用且不加锁
+ * </p>
+ * 示例:
+ * 
+ * <pre>
+ * cache.register(Sound.HIT, () -&gt; SoundClip.load(url));
+ * // 页面显示时
+ * cache.retain(Sound.HIT);
+ * // 页面隐藏时
+ * cache.release(Sound.HIT);
+ * </pre>
+ * 
+ * @author 夜雨
+ * @createdAt 2026-10-18 18:05:19
+ *
+ * @param <T> 标记类型
+ * @param <A> 资源类型
+ */
+public class AudioCache<T, A> {
+
+	/**
+	 * 资源加载器
+	 * 
+	 */
+	public static interface Loader<A> {
+		A load() throws Exception;
+	}
+
+	/**
+	 * 缓存项
+	 * 
+	 */
+	private static final class Entry<A> {
+
+		final Loader<A> loader;
+		volatile A asset;
+		volatile long lastUsed;
+		long bytes;
+		int refs;
+		CompletableFuture<A> loading;
+
+		Entry(Loader<A> loader) {
+			this.loader = loader;
+		}
+	}
+
+	private static final ExecutorService LOADER = Executors.newSingleThreadExecutor(r -> {
+		Thread thread = new Thread(r, "YeyuEngine-AudioLoader");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private final Map<T, Entry<A>> entries = new ConcurrentHashMap<>();
+	private final ToLongFunction<A> sizer;
+	private final AtomicLong clock = new AtomicLong();
+	// 以下由 this 保护
+	private long bytes = 0, budget = 0, evicted = 0;
+
+	/**
+	 * @param sizer 资源占用字节数
+	 */
+	public AudioCache(ToLongFunction<A> sizer) {
+		if (sizer == null) {
+			throw new NullPointerException("占用计算不可为空");
+		}
+		this.sizer = sizer;
+	}
+
+	/**
+	 * 放入已加载的资源，不会被释放
+	 * 
+	 * @param t
+	 * @param asset 资源
+	 */
+	public void put(T t, A asset) {
+		if (asset == null) {
+			throw new NullPointerException("资源不可为空");
+		}
+		Entry<A> entry = new Entry<>(null);
+		entry.asset = asset;
+		entry.lastUsed = clock.incrementAndGet();
+		synchronized (this) {
+			entry.bytes = sizer.applyAsLong(asset);
+			detach(entries.put(t, entry));
+			bytes += entry.bytes;
+			evict();
+		}
+	}
+
+	/**
+	 * 注册资源加载器，首次使用时在后台加载，可被释放和重新加载
+	 * 
+	 * @param t
+	 * @param loader 加载器
+	 */
+	public void register(T t, Loader<A> loader) {
+		if (loader == null) {
+			throw new NullPointerException("加载器不可为空");
+		}
+		synchronized (this) {
+			detach(entries.put(t, new Entry<>(loader)));
+		}
+	}
+
+	/**
+	 * 移除
+	 * 
+	 * @param t
+	 */
+	public void remove(T t) {
+		synchronized (this) {
+			detach(entries.remove(t));
+		}
+	}
+
+	/**
+	 * 获取资源（任意线程），未加载或已释放时开始后台加载并返回 null
+	 * 
+	 * @param t
+	 * @return 资源
+	 */
+	public A get(T t) {
+		Entry<A> entry = entries.get(t);
+		if (entry == null) {
+			return null;
+		}
+		entry.lastUsed = clock.incrementAndGet();
+		A asset = entry.asset;
+		if (asset == null) {
+			load(t, entry);
+		}
+		return asset;
+	}
+
+	/**
+	 * 加载资源（已加载时立即完成）
+	 * 
+	 * @param t
+	 * @return 加载结果，未注册时为 null
+	 */
+	public CompletableFuture<A> load(T t) {
+		Entry<A> entry = entries.get(t);
+		if (entry == null) {
+			return CompletableFuture.completedFuture(null);
+		}
+		entry.lastUsed = clock.incrementAndGet();
+		return load(t, entry);
+	}
+
+	/**
+	 * 增加引用，有引用的项不会被释放，未加载时开始后台加载
+	 * 
+	 * @param t
+	 */
+	public void retain(T t) {
+		Entry<A> entry = entries.get(t);
+		if (entry == null) {
+			return;
+		}
+		synchronized (this) {
+			entry.refs++;
+		}
+		entry.lastUsed = clock.incrementAndGet();
+		load(t, entry);
+	}
+
+	/**
+	 * 减少引用，引用归零后可被释放
+	 * 
+	 * @param t
+	 */
+	public synchronized void release(T t) {
+		Entry<A> entry = entries.get(t);
+		if (entry != null && 0 < entry.refs) {
+			entry.refs--;
+			evict();
+		}
+	}
+
+	/**
+	 * 内存预算（字节），0 为不限制。默认 0
+	 * 
+	 * @param budget
+	 */
+	public synchronized void setBudget(long budget) {
+		if (budget < 0) {
+			throw new IllegalArgumentException("预算不可小于 0");
+		}
+		this.budget = budget;
+		evict();
+	}
+
+	public synchronized long getBudget() {
+		return budget;
+	}
+
+	/**
+	 * 已加载资源的总占用（字节）
+	 * 
+	 * @return
+	 */
+	public synchronized long getBytes() {
+		return bytes;
+	}
+
+	/**
+	 * 累计释放次数
+	 * 
+	 * @return
+	 */
+	public synchronized long getEvicted() {
+		return evicted;
+	}
+
+	public boolean contains(T t) {
+		return entries.containsKey(t);
+	}
+
+	/**
+	 * 是否已加载
+	 * 
+	 * @param t
+	 * @return
+	 */
+	public boolean isResident(T t) {
+		Entry<A> entry = entries.get(t);
+		return entry != null && entry.asset != null;
+	}
+
+	/**
+	 * 已加载资源的快照
+	 * 
+	 * @return
+	 */
+	public Map<T, A> toMap() {
+		Map<T, A> map = new HashMap<>();
+		entries.forEach((t, entry) -> {
+			A asset = entry.asset;
+			if (asset != null) {
+				map.put(t, asset);
+			}
+		});
+		return map;
+	}
+
+	// 后台加载，同一项同时只加载一次
+	private CompletableFuture<A> load(T t, Entry<A> entry) {
+		A asset = entry.asset;
+		if (asset != null) {
+			return CompletableFuture.completedFuture(asset);
+		}
+		synchronized (this) {
+			if (entry.asset != null) {
+				return CompletableFuture.completedFuture(entry.asset);
+			}
+			if (entry.loading == null) {
+				entry.loading = CompletableFuture.supplyAsync(() -> {
+					try {
+						return entry.loader.load();
+					} catch (RuntimeException e) {
+						throw e;
+					} catch (Exception e) {
+						throw new IllegalStateException("音频加载失败：" + t, e);
+					}
+				}, LOADER).whenComplete((loaded, e) -> attach(t, entry, loaded, e));
+			}
+			return entry.loading;
+		}
+	}
+
+	// 加载完成
+	private synchronized void attach(T t, Entry<A> entry, A loaded, Throwable e) {
+		entry.loading = null;
+		if (e != null) {
+			e.printStackTrace();
+			return;
+		}
+		// 加载期间已被移除或重新注册
+		if (entries.get(t) != entry || loaded == null) {
+			return;
+		}
+		entry.bytes = sizer.applyAsLong(loaded);
+		entry.asset = loaded;
+		entry.lastUsed = clock.incrementAndGet();
+		bytes += entry.bytes;
+		evict();
+	}
+
+	// 移出缓存的项不再计入占用
+	private void detach(Entry<A> entry) {
+		if (entry != null && entry.asset != null) {
+			bytes -= entry.bytes;
+			entry.asset = null;
+		}
+	}
+
+	// 超出预算时按最近最少使用释放
+	private void evict() {
+		while (0 < budget && budget < bytes) {
+			Entry<A> oldest = null;
+			for (Entry<A> entry : entries.values()) {
+				if (entry.asset != null && entry.refs == 0 && entry.loader != null && (oldest == null || entry.lastUsed < oldest.lastUsed)) {
+					oldest = entry;
+				}
+			}
+			if (oldest == null) {
+				return;
+			}
+			bytes -= oldest.bytes;
+			oldest.asset = null;
+			evicted++;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,50 @@
+package net.imyeyu.engine.media;
+
+import java.io.IOException;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.LineUnavailableException;
+
+/**
+ * 混音输出端，接收混音线程渲染的 PCM 数据
+ * 
+ * @author 夜雨
+ * @createdAt 2026-10-18 15:21:40
+ *
+ */
+public interface AudioSink {
+
+	/**
+	 * 打开输出
+	 * 
+	 * @param format      PCM 格式
+	 * @param bufferBytes 建议缓冲字节数（决定延迟）
+	 * @throws LineUnavailableException 音频设备不可用
+	 * @throws IOException              输出异常
+	 */
+	void open(AudioFormat format, int bufferBytes) throws LineUnavailableException, IOException;
+
+	/**
+	 * 写入 PCM 数据
+	 * 
+	 * @param data   数据
+	 * @param length 字节数
+	 * @throws IOException 输出异常
+	 */
+	void write(byte[] data, int length) throws IOException;
+
+	/**
+	 * 关闭输出
+	 * 
+	 */
+	void close();
+
+	/**
+	 * 写入是否按播放速度阻塞。为 false 时由混音线程自行按实时节奏渲染
+	 * 
+	 * @return
+	 */
+	default boolean isBlocking() {
+		return false;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,349 @@
+package net.imyeyu.engine.media;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.sound.sampled.AudioFormat;
+
+import javafx.application.Platform;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+
+/**
+ * 流式音频
+ * <p>
+ * 音频文件以内存映射打开，解码线程按需解码（StreamDecoder，可通过 addCodec 扩展格式），
+ * 提前填充固定大小的环形缓冲（默认 250 毫秒），输出线程从缓冲取数据写入输出端。
+ * 每首占用的内存只有环形缓冲，与文件长度无关；循环在解码线程跳转，没有间隙。
+ * 缓冲首次填满后就绪（onReady 在 FX 线程执行，FX 未启动时在解码线程执行，就绪后设置的
+ * 回调会补发一次）
+ * </p>
+ * 
+ * @author 夜雨
+ * @createdAt 2026-10-18 17:26:45
+ *
+ */
+public final class AudioStream implements Deck {
+
+	private static final List<StreamCodec> CODECS = new CopyOnWriteArrayList<>();
+	static {
+		CODECS.add(WavDecoder::open);
+	}
+
+	// 每次解码、输出的最大字节数
+	private static final int CHUNK = 4096;
+
+	private final StreamDecoder decoder;
+	private final AudioSink sink;
+	private final AudioFormat format;
+	private final int frameSize;
+	private final byte[] ring;
+	// 累计写入、读取字节数，解码线程和输出线程各写一个
+	private volatile long written = 0, read = 0;
+	private volatile boolean isReady = false, isEnded = false, isPlaying = false, isDisposed = false;
+	private volatile double gain = 1;
+	// 循环区间（帧），解码位置（解码线程）
+	private volatile boolean isLoop = true;
+	private volatile long loopStart = 0, loopEnd = Long.MAX_VALUE;
+	private long position = 0;
+	private final DoubleProperty volume = new SimpleDoubleProperty(1);
+	private volatile Runnable onReady, onError;
+	// 异常（回调补发用）及回调是否已执行
+	private volatile boolean isFailed = false;
+	private final AtomicBoolean isReadyCalled = new AtomicBoolean(), isErrorCalled = new AtomicBoolean();
+	private final Thread decodeThread, outputThread;
+
+	private AudioStream(StreamDecoder decoder, AudioSink sink, double bufferMillis) {
+		this.decoder = decoder;
+		this.sink = sink;
+		this.format = decoder.getFormat();
+		this.frameSize = format.getFrameSize();
+		int frames = (int) Math.max(chunk() / frameSize * 2, format.getSampleRate() * bufferMillis / 1E3);
+		this.ring = new byte[frames * frameSize];
+		volume.addListener((obs, o, value) -> gain = Math.max(0, Math.min(1, value.doubleValue())));
+		decodeThread = new Thread(this::decode, "YeyuEngine-BGM-Decoder");
+		decodeThread.setDaemon(true);
+		outputThread = new Thread(this::output, "YeyuEngine-BGM-Output");
+		outputThread.setDaemon(true);
+		outputThread.setPriority(Thread.MAX_PRIORITY);
+		decodeThread.start();
+		outputThread.start();
+	}
+
+	/**
+	 * 添加解码器，优先于已有解码器识别
+	 * 
+	 * @param codec 解码器工厂
+	 */
+	public static void addCodec(StreamCodec codec) {
+		CODECS.add(0, codec);
+	}
+
+	/**
+	 * 打开音频文件并开始预读，输出到声卡，缓冲 250 毫秒
+	 * 
+	 * @param file 音频文件
+	 * @return 流式音频
+	 * @throws IOException 读取异常或不支持的格式
+	 */
+	public static AudioStream open(File file) throws IOException {
+		return open(file, new LineSink(), 250);
+	}
+
+	/**
+	 * 打开音频文件并开始预读
+	 * 
+	 * @param file         音频文件
+	 * @param sink         输出端
+	 * @param bufferMillis 环形缓冲时长（毫秒）
+	 * @return 流式音频
+	 * @throws IOException 读取异常或不支持的格式
+	 */
+	public static AudioStream open(File file, AudioSink sink, double bufferMillis) throws IOException {
+		MappedByteBuffer data;
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+		for (StreamCodec codec : CODECS) {
+			StreamDecoder decoder = codec.open(data);
+			if (decoder != null) {
+				AudioFormat format = decoder.getFormat();
+				if (format.getSampleSizeInBits() != 16 || format.isBigEndian() || format.getEncoding() != AudioFormat.Encoding.PCM_SIGNED) {
+					throw new IOException("解码器需输出 16 位有符号小端 PCM：" + format);
+				}
+				return new AudioStream(decoder, sink, bufferMillis);
+			}
+		}
+		throw new IOException("不支持的音频格式：" + file);
+	}
+
+	/**
+	 * 循环区间，默认整首循环
+	 * 
+	 * @param startFrame 循环开始（帧）
+	 * @param endFrame   循环结束（帧）
+	 */
+	public void setLoop(long startFrame, long endFrame) {
+		if (endFrame <= startFrame || startFrame < 0) {
+			throw new IllegalArgumentException("循环区间无效");
+		}
+		loopStart = startFrame;
+		loopEnd = endFrame;
+	}
+
+	/**
+	 * 是否循环。默认 true
+	 * 
+	 * @param isLoop
+	 */
+	public void setLoop(boolean isLoop) {
+		this.isLoop = isLoop;
+	}
+
+	public void play() {
+		isPlaying = true;
+		LockSupport.unpark(outputThread);
+	}
+
+	public void pause() {
+		isPlaying = false;
+	}
+
+	public void dispose() {
+		isDisposed = true;
+		isPlaying = false;
+		LockSupport.unpark(decodeThread);
+		LockSupport.unpark(outputThread);
+	}
+
+	public DoubleProperty volumeProperty() {
+		return volume;
+	}
+
+	public boolean isReady() {
+		return isReady;
+	}
+
+	public void setOnReady(Runnable onReady) {
+		this.onReady = onReady;
+		if (isReady) {
+			dispatch(this::callReady);
+		}
+	}
+
+	public void setOnError(Runnable onError) {
+		this.onError = onError;
+		if (isFailed) {
+			dispatch(this::callError);
+		}
+	}
+
+	/**
+	 * 输出格式（16 位有符号小端 PCM）
+	 * 
+	 * @return
+	 */
+	public AudioFormat getFormat() {
+		return format;
+	}
+
+	/**
+	 * 环形缓冲字节数
+	 * 
+	 * @return
+	 */
+	public int getBufferBytes() {
+		return ring.length;
+	}
+
+	/**
+	 * 已播放完（不循环时）
+	 * 
+	 * @return
+	 */
+	public boolean isEnded() {
+		return isEnded && written == read;
+	}
+
+	// 解码线程
+	private void decode() {
+		try {
+			int capacity = ring.length, offset, length, n;
+			while (!isDisposed) {
+				long free = capacity - (written - read);
+				if (free < Math.min(CHUNK, capacity / 2)) {
+					// 缓冲已满
+					ready();
+					LockSupport.parkNanos(this, 2_000_000);
+					continue;
+				}
+				offset = (int) (written % capacity);
+				length = (int) Math.min(Math.min(free, CHUNK), capacity - offset);
+				length -= length % frameSize;
+				// 不越过循环结束
+				long limit = isLoop ? loopEnd - position : Long.MAX_VALUE;
+				if (limit < length / frameSize) {
+					length = (int) Math.max(0, limit) * frameSize;
+				}
+				n = length == 0 ? -1 : decoder.read(ring, offset, length);
+				if (n < 0) {
+					if (isLoop && position != loopStart) {
+						decoder.seek(loopStart);
+						position = loopStart;
+						continue;
+					}
+					isEnded = true;
+					ready();
+					return;
+				}
+				position += n / frameSize;
+				written += n;
+			}
+		} catch (Exception e) {
+			e.printStackTrace();
+			isEnded = true;
+			fail();
+		}
+	}
+
+	// 输出线程
+	private void output() {
+		// 按整帧输出，多声道时帧大小不一定整除 CHUNK
+		byte[] out = new byte[chunk()];
+		try {
+			sink.open(format, out.length * 4);
+		} catch (Exception e) {
+			e.printStackTrace();
+			fail();
+			return;
+		}
+		try {
+			int capacity = ring.length, offset, n, sample;
+			double nanosPerByte = 1E9 / (format.getSampleRate() * frameSize);
+			long next = System.nanoTime();
+			while (!isDisposed) {
+				long available = written - read;
+				if (!isPlaying || available == 0) {
+					if (isPlaying && isEnded) {
+						isPlaying = false;
+					}
+					LockSupport.parkNanos(this, 1_000_000);
+					next = System.nanoTime();
+					continue;
+				}
+				offset = (int) (read % capacity);
+				n = (int) Math.min(Math.min(available, out.length), capacity - offset);
+				n -= n % frameSize;
+				double gain = this.gain;
+				for (int i = 0; i < n; i += 2) {
+					sample = (int) (((ring[offset + i] & 0xFF) | (ring[offset + i + 1] << 8)) * gain);
+					out[i] = (byte) sample;
+					out[i + 1] = (byte) (sample >> 8);
+				}
+				read += n;
+				LockSupport.unpark(decodeThread);
+				sink.write(out, n);
+				if (!sink.isBlocking()) {
+					next += (long) (n * nanosPerByte);
+					long wait = next - System.nanoTime();
+					if (0 < wait) {
+						LockSupport.parkNanos(this, wait);
+					}
+				}
+			}
+		} catch (Exception e) {
+			e.printStackTrace();
+			fail();
+		} finally {
+			sink.close();
+		}
+	}
+
+	// 不超过 CHUNK 的整帧字节数
+	private int chunk() {
+		return Math.max(frameSize, CHUNK - CHUNK % frameSize);
+	}
+
+	private void ready() {
+		if (isReady) {
+			return;
+		}
+		isReady = true;
+		dispatch(this::callReady);
+	}
+
+	private void fail() {
+		isFailed = true;
+		dispatch(this::callError);
+	}
+
+	private void callReady() {
+		Runnable onReady = this.onReady;
+		if (!isDisposed && onReady != null && isReadyCalled.compareAndSet(false, true)) {
+			onReady.run();
+		}
+	}
+
+	private void callError() {
+		Runnable onError = this.onError;
+		if (!isDisposed && onError != null && isErrorCalled.compareAndSet(false, true)) {
+			onError.run();
+		}
+	}
+
+	// 回调在 FX 线程执行，FX 未启动（无头输出端）时直接执行
+	private static void dispatch(Runnable callback) {
+		try {
+			Platform.runLater(callback);
+		} catch (IllegalStateException e) {
+			callback.run();
+		}
+	}
+}
\ No newline at end of file
@@ -1,16 +1,33 @@
 package net.imyeyu.engine.media;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
-import javafx.beans.property.ObjectProperty;
-import javafx.beans.property.SimpleObjectProperty;
+import javafx.animation.KeyFrame;
+import javafx.animation.KeyValue;
+import javafx.animation.Timeline;
+import javafx.application.Platform;
+import javafx.beans.property.DoubleProperty;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 import javafx.util.Duration;
 
 /**
  * 背景音乐服务。建议使用枚举泛型
+ * <p>
+ * 双播放器：当前播放器播放时，下一首在后台线程创建播放器并预读（prefetch 可提前进行），
+ * 状态变为 READY 后才开始播放并与当前播放器交叉淡入淡出，切换时不阻塞 FX 线程、没有预读空白。
+ * 循环由播放器自身完成（无限循环次数，可指定循环区间），不再在播放结束时 seek。
+ * 淡入淡出按真实时间执行，不受引擎降帧和挂起影响。除注册外的方法需在 FX 线程调用
+ * </p>
+ * <p>
+ * 以 addStream 注册的音频不交给 Media，而是流式解码（AudioStream）：文件以内存映射打开，
+ * 每首只占用几百毫秒的环形缓冲，同样参与预读和交叉淡入淡出
+ * </p>
  * 
  * @author 夜雨
  * @createdAt 2021-01-24 10:08:12
@@ -22,32 +39,78 @@ public abstract class BGMServer<T> {
 	
 	/** 音效注册列表 */
 	private Map<T, Media> list = new HashMap<>();
-	/** 监听播放 */
-	private ObjectProperty<T> bgmProperty = new SimpleObjectProperty<>();
+	/** 流式音频注册列表 */
+	private Map<T, File> streams = new HashMap<>();
+	/** 循环区间 */
+	private Map<T, Duration[]> loops = new HashMap<>();
 	/** 播放器 */
-	private MediaPlayer player;
+	private Deck player;
+	/** 预读中或已就绪的下一首 */
+	private Deck pending;
+	/** 淡出中的上一首 */
+	private Deck fading;
+	private Timeline fade;
+	private T current, pendingTag;
+	// 下一首就绪后是否立即切换，预读序号（丢弃过期的后台结果）
+	private boolean isSwitch = false;
+	private int loads = 0;
+	private double volume = 1, crossfadeMillis = 1000;
+	private final ExecutorService loader = Executors.newSingleThreadExecutor(r -> {
+		Thread thread = new Thread(r, "YeyuEngine-BGM");
+		thread.setDaemon(true);
+		return thread;
+	});
 	
-	public BGMServer() {
-		bgmProperty.addListener((obs, o, flag) -> {
-			if (player != null) {
-				player.dispose();
-			}
-			player = new MediaPlayer(list.get(flag));
-			player.setOnEndOfMedia(() -> {
-				player.seek(Duration.ZERO);
-				player.play();
-			});
-		});
+	/**
+	 * 添加到列表，整首循环
+	 * 
+	 * @param t
+	 * @param media
+	 */
+	public void add(T t, Media media) {
+		list.put(t, media);
+		streams.remove(t);
+		loops.remove(t);
 	}
 	
 	/**
-	 * 添加到列表
+	 * 添加到列表，在区间内循环（首次播放同样从区间开始）
 	 * 
 	 * @param t
 	 * @param media
+	 * @param loopStart 循环开始
+	 * @param loopEnd   循环结束
 	 */
-	public void add(T t, Media media) {
+	public void add(T t, Media media, Duration loopStart, Duration loopEnd) {
 		list.put(t, media);
+		streams.remove(t);
+		loops.put(t, loop(loopStart, loopEnd));
+	}
+	
+	/**
+	 * 添加流式音频到列表，整首循环。支持 WAV，其他格式见 AudioStream.addCodec
+	 * 
+	 * @param t
+	 * @param file 音频文件
+	 */
+	public void addStream(T t, File file) {
+		streams.put(t, file);
+		list.remove(t);
+		loops.remove(t);
+	}
+	
+	/**
+	 * 添加流式音频到列表，在区间内循环（首次播放从头开始）
+	 * 
+	 * @param t
+	 * @param file      音频文件
+	 * @param loopStart 循环开始
+	 * @param loopEnd   循环结束
+	 */
+	public void addStream(T t, File file, Duration loopStart, Duration loopEnd) {
+		streams.put(t, file);
+		list.remove(t);
+		loops.put(t, loop(loopStart, loopEnd));
 	}
 	
 	/**
@@ -57,6 +120,8 @@ public abstract class BGMServer<T> {
 	 */
 	public void remove(T t) {
 		list.remove(t);
+		streams.remove(t);
+		loops.remove(t);
 	}
 	
 	/**
@@ -69,21 +134,99 @@ public abstract class BGMServer<T> {
 	}
 	
 	/**
-	 * 播放器
+	 * 播放器，当前为流式音频时返回 null
 	 * 
 	 * @return
 	 */
 	public MediaPlayer getPlayer() {
-		return player;
+		return player instanceof MediaDeck ? ((MediaDeck) player).player : null;
+	}
+	
+	/**
+	 * 流式音频，当前不是流式音频时返回 null
+	 * 
+	 * @return
+	 */
+	public AudioStream getStream() {
+		return player instanceof AudioStream ? (AudioStream) player : null;
 	}
 	
 	/**
-	 * 设置音频
+	 * 当前音频
+	 * 
+	 * @return
+	 */
+	public T get() {
+		return current;
+	}
+	
+	/**
+	 * 设置音频，就绪后与当前音频交叉淡入淡出，为 null 时淡出停止
 	 * 
 	 * @param t
 	 */
 	public void set(T t) {
-		bgmProperty.set(t);
+		if (t == null) {
+			discardPending();
+			crossfade(null, null);
+			return;
+		}
+		if (t.equals(pendingTag)) {
+			isSwitch = true;
+			if (pending != null && pending.isReady()) {
+				crossfade(pending, t);
+			}
+			return;
+		}
+		if (t.equals(current)) {
+			discardPending();
+			return;
+		}
+		load(t, true);
+	}
+	
+	/**
+	 * 在后台预读音频，之后 set 同一音频时无需等待。已有等待就绪的切换时忽略
+	 * 
+	 * @param t
+	 */
+	public void prefetch(T t) {
+		if (t == null || t.equals(current) || t.equals(pendingTag) || isSwitch) {
+			return;
+		}
+		load(t, false);
+	}
+	
+	/**
+	 * 交叉淡入淡出时长（毫秒），0 为直接切换。默认 1000
+	 * 
+	 * @param crossfadeMillis
+	 */
+	public void setCrossfadeMillis(double crossfadeMillis) {
+		if (crossfadeMillis < 0) {
+			throw new IllegalArgumentException("时长不可小于 0");
+		}
+		this.crossfadeMillis = crossfadeMillis;
+	}
+	
+	public double getCrossfadeMillis() {
+		return crossfadeMillis;
+	}
+	
+	/**
+	 * 音量（0 ~ 1）。默认 1
+	 * 
+	 * @param volume
+	 */
+	public void setVolume(double volume) {
+		this.volume = volume;
+		if (player != null && fade == null) {
+			player.volumeProperty().set(volume);
+		}
+	}
+	
+	public double getVolume() {
+		return volume;
 	}
 	
 	/**
@@ -94,6 +237,12 @@ public abstract class BGMServer<T> {
 		if (player != null) {
 			player.play();
 		}
+		if (fade != null) {
+			if (fading != null) {
+				fading.play();
+			}
+			fade.play();
+		}
 	}
 	
 	/**
@@ -101,6 +250,12 @@ public abstract class BGMServer<T> {
 	 * 
 	 */
 	public void pause() {
+		if (fade != null) {
+			fade.pause();
+			if (fading != null) {
+				fading.pause();
+			}
+		}
 		if (player != null) {
 			player.pause();
 		}
@@ -111,9 +266,221 @@ public abstract class BGMServer<T> {
 	 * 
 	 */
 	public void shutdown() {
+		discardPending();
+		finishFade();
 		if (player != null) {
 			player.dispose();
 			player = null;
 		}
+		current = null;
+		loader.shutdownNow();
+	}
+	
+	// 在后台线程创建播放器，FX 线程接收
+	private void load(T t, boolean isSwitch) {
+		Media media = list.get(t);
+		File file = streams.get(t);
+		if (media == null && file == null) {
+			throw new IllegalArgumentException("未注册的音频：" + t);
+		}
+		discardPending();
+		this.pendingTag = t;
+		this.isSwitch = isSwitch;
+		final int token = ++loads;
+		final Duration[] loop = loops.get(t);
+		loader.execute(() -> {
+			Deck next;
+			try {
+				next = media != null ? open(media, loop) : open(file, loop);
+			} catch (Exception e) {
+				// 任何加载失败都要清除等待状态，否则之后的预读和切换都会被忽略
+				e.printStackTrace();
+				Platform.runLater(() -> {
+					if (token == loads) {
+						discardPending();
+					}
+				});
+				return;
+			}
+			next.volumeProperty().set(0);
+			Platform.runLater(() -> {
+				if (token != loads) {
+					next.dispose();
+					return;
+				}
+				pending = next;
+				next.setOnReady(() -> {
+					if (pending == next && this.isSwitch) {
+						crossfade(next, t);
+					}
+				});
+				next.setOnError(() -> {
+					if (pending == next) {
+						discardPending();
+					}
+				});
+				// 可能在设置监听前已就绪
+				if (next.isReady() && this.isSwitch) {
+					crossfade(next, t);
+				}
+			});
+		});
+	}
+	
+	private Deck open(Media media, Duration[] loop) {
+		MediaPlayer player = new MediaPlayer(media);
+		player.setCycleCount(MediaPlayer.INDEFINITE);
+		if (loop != null) {
+			player.setStartTime(loop[0]);
+			player.setStopTime(loop[1]);
+		}
+		return new MediaDeck(player);
+	}
+	
+	private Deck open(File file, Duration[] loop) throws IOException {
+		AudioStream stream = AudioStream.open(file, createSink(), 250);
+		if (loop != null) {
+			float rate = stream.getFormat().getSampleRate();
+			try {
+				stream.setLoop((long) (loop[0].toSeconds() * rate), (long) (loop[1].toSeconds() * rate));
+			} catch (RuntimeException e) {
+				stream.dispose();
+				throw e;
+			}
+		}
+		return stream;
+	}
+	
+	// 校验循环区间
+	private static Duration[] loop(Duration loopStart, Duration loopEnd) {
+		if (loopStart == null || loopEnd == null) {
+			throw new NullPointerException("循环区间不可为空");
+		}
+		if (loopStart.lessThan(Duration.ZERO) || !loopStart.lessThan(loopEnd)) {
+			throw new IllegalArgumentException("循环区间无效：" + loopStart + " ~ " + loopEnd);
+		}
+		return new Duration[] {loopStart, loopEnd};
+	}
+	
+	/**
+	 * 流式音频的输出端，默认输出到声卡（无界面测试可改为 NullSink、FileSink）
+	 * 
+	 * @return
+	 */
+	protected AudioSink createSink() {
+		return new LineSink();
+	}
+	
+	// 丢弃预读
+	private void discardPending() {
+		loads++;
+		if (pending != null) {
+			pending.dispose();
+			pending = null;
+		}
+		pendingTag = null;
+		isSwitch = false;
+	}
+	
+	// 切换到下一首，next 为 null 时只淡出
+	private void crossfade(Deck next, T t) {
+		if (next != null) {
+			pending = null;
+			pendingTag = null;
+			isSwitch = false;
+		}
+		// 上一次淡出未结束时直接停止，当前播放器从现有音量开始淡出
+		finishFade();
+		Deck last = player;
+		player = next;
+		current = t;
+		if (next != null) {
+			next.play();
+		}
+		if (last == null && next == null) {
+			return;
+		}
+		if (crossfadeMillis == 0) {
+			if (last != null) {
+				last.dispose();
+			}
+			if (next != null) {
+				next.volumeProperty().set(volume);
+			}
+			return;
+		}
+		fading = last;
+		fade = new Timeline();
+		if (next != null) {
+			fade.getKeyFrames().add(new KeyFrame(Duration.ZERO, new KeyValue(next.volumeProperty(), 0)));
+			fade.getKeyFrames().add(new KeyFrame(Duration.millis(crossfadeMillis), new KeyValue(next.volumeProperty(), volume)));
+		}
+		if (last != null) {
+			fade.getKeyFrames().add(new KeyFrame(Duration.millis(crossfadeMillis), new KeyValue(last.volumeProperty(), 0)));
+		}
+		fade.setOnFinished(e -> {
+			finishFade();
+			if (player != null) {
+				player.volumeProperty().set(volume);
+			}
+		});
+		fade.play();
+	}
+	
+	// 结束淡入淡出，释放上一首
+	private void finishFade() {
+		if (fade == null) {
+			return;
+		}
+		fade.stop();
+		fade = null;
+		if (fading != null) {
+			fading.dispose();
+			fading = null;
+		}
+	}
+	
+	/**
+	 * MediaPlayer 播放器
+	 * 
+	 */
+	private static final class MediaDeck implements Deck {
+		
+		final MediaPlayer player;
+		
+		MediaDeck(MediaPlayer player) {
+			this.player = player;
+		}
+		
+		public void play() {
+			player.play();
+		}
+		
+		public void pause() {
+			player.pause();
+		}
+		
+		public void dispose() {
+			player.dispose();
+		}
+		
+		public DoubleProperty volumeProperty() {
+			return player.volumeProperty();
+		}
+		
+		public boolean isReady() {
+			return player.getStatus() == MediaPlayer.Status.READY;
+		}
+		
+		public void setOnReady(Runnable onReady) {
+			player.setOnReady(onReady);
+		}
+		
+		public void setOnError(Runnable onError) {
+			player.setOnError(() -> {
+				player.getError().printStackTrace();
+				onError.run();
+			});
+		}
 	}
 }
\ No newline at end of file
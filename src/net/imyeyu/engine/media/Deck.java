@@ -0,0 +1,32 @@
+package net.imyeyu.engine.media;
+
+import javafx.beans.property.DoubleProperty;
+
+/**
+ * 背景音乐播放器，BGMServer 以两个播放器交叉淡入淡出（FX 线程）
+ * 
+ * @author 夜雨
+ * @createdAt 2026-10-18 17:20:06
+ *
+ */
+interface Deck {
+
+	void play();
+
+	void pause();
+
+	void dispose();
+
+	DoubleProperty volumeProperty();
+
+	/**
+	 * 是否已预读完成，可以无延迟开始播放
+	 * 
+	 * @return
+	 */
+	boolean isReady();
+
+	void setOnReady(Runnable onReady);
+
+	void setOnError(Runnable onError);
+}
\ No newline at end of file
@@ -0,0 +1,80 @@
+package net.imyeyu.engine.media;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import javax.sound.sampled.AudioFormat;
+
+/**
+ * WAV 文件输出，录制混音结果，用于无界面测试
+ * 
+ * @author 夜雨
+ * @createdAt 2026-10-18 15:27:10
+ *
+ */
+public class FileSink implements AudioSink {
+
+	private final File file;
+	private RandomAccessFile out;
+	private AudioFormat format;
+	private long length = 0;
+
+	public FileSink(File file) {
+		this.file = file;
+	}
+
+	public void open(AudioFormat format, int bufferBytes) throws IOException {
+		this.format = format;
+		out = new RandomAccessFile(file, "rw");
+		out.setLength(0);
+		length = 0;
+		// 文件头在关闭时写入
+		out.write(new byte[44]);
+	}
+
+	public void write(byte[] data, int length) throws IOException {
+		out.write(data, 0, length);
+		this.length += length;
+	}
+
+	public void close() {
+		if (out == null) {
+			return;
+		}
+		try {
+			int channels = format.getChannels();
+			int rate = (int) format.getSampleRate();
+			int bits = format.getSampleSizeInBits();
+			out.seek(0);
+			out.writeBytes("RIFF");
+			writeInt(36 + length);
+			out.writeBytes("WAVEfmt ");
+			writeInt(16);
+			writeShort(1);
+			writeShort(channels);
+			writeInt(rate);
+			writeInt(rate * channels * bits / 8);
+			writeShort(channels * bits / 8);
+			writeShort(bits);
+			out.writeBytes("data");
+			writeInt(length);
+			out.close();
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+		out = null;
+	}
+
+	private void writeInt(long value) throws IOException {
+		out.write((int) value);
+		out.write((int) (value >>> 8));
+		out.write((int) (value >>> 16));
+		out.write((int) (value >>> 24));
+	}
+
+	private void writeShort(int value) throws IOException {
+		out.write(value);
+		out.write(value >>> 8);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+package net.imyeyu.engine.media;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+
+/**
+ * 声卡输出，写入 SourceDataLine
+ * 
+ * @author 夜雨
+ * @createdAt 2026-10-18 15:24:02
+ *
+ */
+public class LineSink implements AudioSink {
+
+	private SourceDataLine line;
+
+	public void open(AudioFormat format, int bufferBytes) throws LineUnavailableException {
+		line = AudioSystem.getSourceDataLine(format);
+		line.open(format, bufferBytes);
+		line.start();
+	}
+
+	public void write(byte[] data, int length) {
+		line.write(data, 0, length);
+	}
+
+	public void close() {
+		if (line != null) {
+			line.stop();
+			line.flush();
+			line.close();
+			line = null;
+		}
+	}
+
+	public boolean isBlocking() {
+		return true;
+	}
+}
\ No newline at end of file
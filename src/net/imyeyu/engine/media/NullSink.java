@@ -0,0 +1,35 @@
+package net.imyeyu.engine.media;
+
+import javax.sound.sampled.AudioFormat;
+
+/**
+ * 空输出，丢弃混音结果，用于无声卡环境和无界面测试
+ * 
+ * @author 夜雨
+ * @createdAt 2026-10-18 15:25:37
+ *
+ */
+public class NullSink implements AudioSink {
+
+	private long bytes = 0;
+
+	public void open(AudioFormat format, int bufferBytes) {
+		bytes = 0;
+	}
+
+	public void write(byte[] data, int length) {
+		bytes += length;
+	}
+
+	public void close() {
+	}
+
+	/**
+	 * 已丢弃字节数
+	 * 
+	 * @return
+	 */
+	public long getBytes() {
+		return bytes;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,137 @@
+package net.imyeyu.engine.media;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+
+/**
+ * 音效片段，加载时一次性解码为混音器格式（SoundMixer.FORMAT）的 PCM，播放时不再解码
+ * 
+ * @author 夜雨
+ * @createdAt 2026-10-18 15:32:48
+ *
+ */
+public final class SoundClip {
+
+	// 双声道交错 16 位采样
+	final short[] samples;
+	final int frames;
+	// 同时播放的最大实例数
+	int maxInstances = 4;
+	// 最近一次触发的声部、声部代数和混音块序号，用于合并重复触发（混音线程）
+	int lastVoice = -1, lastGen;
+	long lastBlock;
+
+	SoundClip(short[] samples) {
+		this.samples = samples;
+		this.frames = samples.length / 2;
+	}
+
+	/**
+	 * 从 URL 加载（如 getClass().getResource("hit.wav").toString()）
+	 * 
+	 * @param url 地址
+	 * @return 音效片段
+	 * @throws IOException                   读取异常
+	 * @throws UnsupportedAudioFileException 不支持的音频格式
+	 */
+	public static SoundClip load(String url) throws IOException, UnsupportedAudioFileException {
+		try (InputStream in = new URL(url).openStream()) {
+			return decode(in);
+		}
+	}
+
+	/**
+	 * 解码音频流，支持 AudioSystem 可读取的格式，按需转为 16 位双声道并重采样
+	 * 
+	 * @param in 音频流，不会关闭
+	 * @return 音效片段
+	 * @throws IOException                   读取异常
+	 * @throws UnsupportedAudioFileException 不支持的音频格式
+	 */
+	public static SoundClip decode(InputStream in) throws IOException, UnsupportedAudioFileException {
+		try (AudioInputStream source = AudioSystem.getAudioInputStream(new BufferedInputStream(in))) {
+			AudioFormat format = source.getFormat();
+			int channels = format.getChannels();
+			float rate = format.getSampleRate();
+			AudioFormat pcm = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED, rate, 16, channels, channels * 2, rate, false);
+			byte[] data;
+			try (AudioInputStream stream = AudioSystem.getAudioInputStream(pcm, source)) {
+				ByteArrayOutputStream out = new ByteArrayOutputStream();
+				byte[] buffer = new byte[8192];
+				int length;
+				while ((length = stream.read(buffer)) != -1) {
+					out.write(buffer, 0, length);
+				}
+				data = out.toByteArray();
+			}
+			return new SoundClip(toStereo(data, channels, rate));
+		}
+	}
+
+	// 16 位小端 PCM 转为混音器采样率的双声道，多于两个声道时取前两个
+	static short[] toStereo(byte[] data, int channels, float rate) {
+		int frames = data.length / (channels * 2);
+		double ratio = rate / SoundMixer.SAMPLE_RATE;
+		int length = frames == 0 ? 0 : (int) Math.max(1, frames / ratio);
+		short[] samples = new short[length * 2];
+		for (int i = 0; i < length; i++) {
+			double position = i * ratio;
+			int j = Math.min((int) position, frames - 1);
+			int k = Math.min(j + 1, frames - 1);
+			double t = position - j;
+			for (int c = 0; c < 2; c++) {
+				int channel = Math.min(c, channels - 1);
+				int a = sample(data, (j * channels + channel) * 2);
+				int b = sample(data, (k * channels + channel) * 2);
+				samples[i * 2 + c] = (short) Math.round(a + (b - a) * t);
+			}
+		}
+		return samples;
+	}
+
+	private static int sample(byte[] data, int offset) {
+		return (short) ((data[offset] & 0xFF) | (data[offset + 1] << 8));
+	}
+
+	/**
+	 * 同时播放的最大实例数，超出时停止最早的实例。默认 4
+	 * 
+	 * @param maxInstances
+	 */
+	public void setMaxInstances(int maxInstances) {
+		if (maxInstances < 1) {
+			throw new IllegalArgumentException("实例数不可小于 1");
+		}
+		this.maxInstances = maxInstances;
+	}
+
+	public int getMaxInstances() {
+		return maxInstances;
+	}
+
+	/**
+	 * 时长（毫秒）
+	 * 
+	 * @return
+	 */
+	public double getMillis() {
+		return frames * 1E3 / SoundMixer.SAMPLE_RATE;
+	}
+
+	/**
+	 * 解码后占用字节数
+	 * 
+	 * @return
+	 */
+	public long getBytes() {
+		return samples.length * 2L;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,429 @@
+package net.imyeyu.engine.media;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.sound.sampled.AudioFormat;
+
+/**
+ * 软件混音器
+ * <p>
+ * 音效预先解码为 PCM（SoundClip），由独立混音线程以固定块（256 帧，约 5.8 毫秒）混合全部发声中的声部，
+ * 写入一个输出端（声卡 SourceDataLine，或无界面测试用的空输出、文件输出）。声部池大小固定即最大复音数，
+ * 满载时停止最早开始的声部；同一片段超出其最大实例数时停止该片段最早的实例。同一音效可重叠播放，
+ * 播放不产生分配，延迟约为输出缓冲（4 块）
+ * </p>
+ * <p>
+ * play、stop 等操作可在任意线程调用，只写入无锁命令队列（SoundQueue），由混音线程在每块混音前取出执行，
+ * 声部状态只有混音线程访问。同一片段在合并窗口（默认 16 毫秒，约一帧）内的重复触发合并为一次，取最大音量
+ * </p>
+ * 
+ * @author 夜雨
+ * @createdAt 2026-10-18 15:41:05
+ *
+ */
+public class SoundMixer {
+
+	/** 采样率 */
+	public static final float SAMPLE_RATE = 44100;
+	/** 输出格式：16 位有符号小端双声道 */
+	public static final AudioFormat FORMAT = new AudioFormat(SAMPLE_RATE, 16, 2, true, false);
+
+	// 每块帧数，输出缓冲块数
+	private static final int BLOCK = 256;
+	private static final int BUFFER_BLOCKS = 4;
+
+	private final AudioSink sink;
+	private final SoundQueue queue;
+	// 声部池（混音线程）
+	private final SoundClip[] clips;
+	private final int[] positions, gens;
+	private final float[] gains;
+	private final long[] orders;
+	private long order = 0;
+	// 已混音块数，合并窗口（块）
+	private long blocks = 0;
+	private volatile int coalesceBlocks = blocks(16);
+	// 统计：发声中、被抢占、被合并、因队列已满丢弃
+	private volatile int activeVoices = 0;
+	private volatile long stolen = 0, coalesced = 0;
+	private final AtomicLong dropped = new AtomicLong();
+	private volatile float volume = 1;
+
+	private Thread thread;
+	private volatile boolean running = false;
+
+	/**
+	 * 输出到声卡，32 个声部
+	 * 
+	 */
+	public SoundMixer() {
+		this(new LineSink(), 32);
+	}
+
+	/**
+	 * @param sink   输出端
+	 * @param voices 声部数（最大复音数）
+	 */
+	public SoundMixer(AudioSink sink, int voices) {
+		this(sink, voices, 1024);
+	}
+
+	/**
+	 * @param sink     输出端
+	 * @param voices   声部数（最大复音数）
+	 * @param commands 命令队列容量
+	 */
+	public SoundMixer(AudioSink sink, int voices, int commands) {
+		if (sink == null) {
+			throw new NullPointerException("输出端不可为空");
+		}
+		if (voices < 1) {
+			throw new IllegalArgumentException("声部数不可小于 1");
+		}
+		this.sink = sink;
+		queue = new SoundQueue(commands);
+		clips = new SoundClip[voices];
+		positions = new int[voices];
+		gens = new int[voices];
+		gains = new float[voices];
+		orders = new long[voices];
+	}
+
+	/**
+	 * 启动混音线程。输出端无法打开（如没有声卡）时改为空输出
+	 * 
+	 */
+	public synchronized void start() {
+		if (running) {
+			return;
+		}
+		AudioSink sink = this.sink;
+		try {
+			sink.open(FORMAT, BLOCK * BUFFER_BLOCKS * FORMAT.getFrameSize());
+		} catch (Exception e) {
+			e.printStackTrace();
+			NullSink fallback = new NullSink();
+			fallback.open(FORMAT, 0);
+			sink = fallback;
+		}
+		running = true;
+		final AudioSink output = sink;
+		thread = new Thread(() -> render(output), "YeyuEngine-Audio");
+		thread.setDaemon(true);
+		thread.setPriority(Thread.MAX_PRIORITY);
+		thread.start();
+	}
+
+	/**
+	 * 停止混音线程并关闭输出
+	 * 
+	 */
+	public void shutdown() {
+		Thread thread;
+		synchronized (this) {
+			if (!running) {
+				return;
+			}
+			running = false;
+			thread = this.thread;
+			this.thread = null;
+		}
+		try {
+			thread.join(1000);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * 播放（任意线程）
+	 * 
+	 * @param clip   音效片段
+	 * @param volume 音量（0 ~ 1）
+	 * @return 命令队列已满时返回 false
+	 */
+	public boolean play(SoundClip clip, float volume) {
+		if (clip == null) {
+			throw new NullPointerException("音效片段不可为空");
+		}
+		return offer(SoundQueue.PLAY, clip, volume);
+	}
+
+	/**
+	 * 停止片段的全部声部（任意线程）
+	 * 
+	 * @param clip 音效片段
+	 * @return 命令队列已满时返回 false
+	 */
+	public boolean stop(SoundClip clip) {
+		if (clip == null) {
+			throw new NullPointerException("音效片段不可为空");
+		}
+		return offer(SoundQueue.STOP, clip, 0);
+	}
+
+	/**
+	 * 停止全部声部（任意线程）
+	 * 
+	 * @return 命令队列已满时返回 false
+	 */
+	public boolean stopAll() {
+		return offer(SoundQueue.STOP_ALL, null, 0);
+	}
+
+	/**
+	 * 调整片段发声中声部的音量（任意线程）
+	 * 
+	 * @param clip   音效片段
+	 * @param volume 音量（0 ~ 1）
+	 * @return 命令队列已满时返回 false
+	 */
+	public boolean setVolume(SoundClip clip, float volume) {
+		if (clip == null) {
+			throw new NullPointerException("音效片段不可为空");
+		}
+		return offer(SoundQueue.VOLUME, clip, volume);
+	}
+
+	/**
+	 * 主音量（0 ~ 1）。默认 1
+	 * 
+	 * @param volume
+	 */
+	public void setVolume(float volume) {
+		this.volume = volume;
+	}
+
+	public float getVolume() {
+		return volume;
+	}
+
+	/**
+	 * 同一片段重复触发的合并窗口（毫秒，按混音块计），0 为不合并。默认 16
+	 * 
+	 * @param ms
+	 */
+	public void setCoalesceMillis(double ms) {
+		if (ms < 0) {
+			throw new IllegalArgumentException("合并窗口不可小于 0");
+		}
+		coalesceBlocks = blocks(ms);
+	}
+
+	/**
+	 * 发声中的声部数（上一块混音结束时）
+	 * 
+	 * @return
+	 */
+	public int getActiveVoices() {
+		return activeVoices;
+	}
+
+	/**
+	 * 被抢占（未播完即停止）的声部累计数
+	 * 
+	 * @return
+	 */
+	public long getStolen() {
+		return stolen;
+	}
+
+	/**
+	 * 被合并的重复触发累计数
+	 * 
+	 * @return
+	 */
+	public long getCoalesced() {
+		return coalesced;
+	}
+
+	/**
+	 * 因命令队列已满丢弃的命令累计数
+	 * 
+	 * @return
+	 */
+	public long getDropped() {
+		return dropped.get();
+	}
+
+	public boolean isRunning() {
+		return running;
+	}
+
+	private boolean offer(int op, SoundClip clip, float value) {
+		if (queue.offer(op, clip, value)) {
+			return true;
+		}
+		dropped.incrementAndGet();
+		return false;
+	}
+
+	// 毫秒转为混音块数，向上取整
+	private static int blocks(double ms) {
+		return (int) Math.ceil(ms * 1E-3 * SAMPLE_RATE / BLOCK);
+	}
+
+	// 执行队列中的命令（混音线程）
+	private void drain() {
+		int i, op;
+		SoundClip clip;
+		float value;
+		while (0 <= (i = queue.peek())) {
+			op = queue.op(i);
+			clip = queue.clip(i);
+			value = queue.value(i);
+			queue.release(i);
+			switch (op) {
+				case SoundQueue.PLAY:
+					trigger(clip, value);
+					break;
+				case SoundQueue.STOP:
+					for (int v = 0; v < clips.length; v++) {
+						if (clips[v] == clip) {
+							release(v);
+						}
+					}
+					break;
+				case SoundQueue.STOP_ALL:
+					for (int v = 0; v < clips.length; v++) {
+						if (clips[v] != null) {
+							release(v);
+						}
+					}
+					break;
+				case SoundQueue.VOLUME:
+					for (int v = 0; v < clips.length; v++) {
+						if (clips[v] == clip) {
+							gains[v] = value;
+						}
+					}
+					break;
+			}
+		}
+	}
+
+	// 触发，合并窗口内的重复触发只提高最近一次的音量
+	private void trigger(SoundClip clip, float volume) {
+		int last = clip.lastVoice;
+		if (blocks - clip.lastBlock < coalesceBlocks && 0 <= last && clips[last] == clip && gens[last] == clip.lastGen) {
+			if (gains[last] < volume) {
+				gains[last] = volume;
+			}
+			coalesced++;
+			return;
+		}
+		int voice = start(clip, volume);
+		clip.lastVoice = voice;
+		clip.lastGen = gens[voice];
+		clip.lastBlock = blocks;
+	}
+
+	// 分配声部，满载时抢占
+	private int start(SoundClip clip, float volume) {
+		int free = -1, oldest = -1, oldestInstance = -1, instances = 0;
+		for (int i = 0; i < clips.length; i++) {
+			if (clips[i] == null) {
+				if (free < 0) {
+					free = i;
+				}
+				continue;
+			}
+			if (oldest < 0 || orders[i] < orders[oldest]) {
+				oldest = i;
+			}
+			if (clips[i] == clip) {
+				instances++;
+				if (oldestInstance < 0 || orders[i] < orders[oldestInstance]) {
+					oldestInstance = i;
+				}
+			}
+		}
+		int voice = clip.maxInstances <= instances ? oldestInstance : (0 <= free ? free : oldest);
+		if (clips[voice] != null) {
+			stolen++;
+			gens[voice]++;
+		}
+		clips[voice] = clip;
+		positions[voice] = 0;
+		gains[voice] = volume;
+		orders[voice] = ++order;
+		return voice;
+	}
+
+	private void release(int voice) {
+		clips[voice] = null;
+		gens[voice]++;
+	}
+
+	// 混音循环
+	private void render(AudioSink output) {
+		float[] mix = new float[BLOCK * 2];
+		byte[] out = new byte[BLOCK * FORMAT.getFrameSize()];
+		long blockNanos = (long) (BLOCK * 1E9 / SAMPLE_RATE);
+		long next = System.nanoTime();
+		try {
+			while (running) {
+				drain();
+				mix(mix);
+				float volume = this.volume;
+				for (int i = 0, j = 0; i < mix.length; i++, j += 2) {
+					int sample = Math.round(mix[i] * volume);
+					if (sample < Short.MIN_VALUE) {
+						sample = Short.MIN_VALUE;
+					} else if (Short.MAX_VALUE < sample) {
+						sample = Short.MAX_VALUE;
+					}
+					out[j] = (byte) sample;
+					out[j + 1] = (byte) (sample >> 8);
+				}
+				output.write(out, out.length);
+				if (!output.isBlocking()) {
+					// 非阻塞输出按实时节奏渲染，落后过多时不追赶
+					next += blockNanos;
+					long wait = next - System.nanoTime();
+					if (0 < wait) {
+						LockSupport.parkNanos(wait);
+					} else if (wait < -blockNanos * BUFFER_BLOCKS) {
+						next = System.nanoTime();
+					}
+				}
+			}
+		} catch (Exception e) {
+			e.printStackTrace();
+			running = false;
+		} finally {
+			output.close();
+		}
+	}
+
+	// 混合一块
+	private void mix(float[] mix) {
+		Arrays.fill(mix, 0);
+		SoundClip clip;
+		short[] samples;
+		int position, length, active = 0;
+		float gain;
+		for (int v = 0; v < clips.length; v++) {
+			if ((clip = clips[v]) == null) {
+				continue;
+			}
+			samples = clip.samples;
+			position = positions[v];
+			length = Math.min(BLOCK, clip.frames - position) * 2;
+			gain = gains[v];
+			for (int i = 0, j = position * 2; i < length; i++, j++) {
+				mix[i] += samples[j] * gain;
+			}
+			positions[v] = position + length / 2;
+			if (clip.frames <= positions[v]) {
+				release(v);
+			} else {
+				active++;
+			}
+		}
+		activeVoices = active;
+		blocks++;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,108 @@
+package net.imyeyu.engine.media;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 音效命令队列，多生产者单消费者有界环形缓冲，无锁且入队不分配
+ * <p>
+ * 任意线程入队，混音线程出队。每个槽位带序号：序号等于写入位置时可写，等于写入位置 + 1 时可读，
+ * 生产者以 CAS 抢占写入位置，写完字段后发布序号；消费者读完后把序号推进一圈释放槽位
+ * </p>
+ * 
+ * @author 夜雨
+ * @createdAt 2026-10-18 16:12:27
+ *
+ */
+final class SoundQueue {
+
+	static final int PLAY = 0, STOP = 1, STOP_ALL = 2, VOLUME = 3;
+
+	private final int mask;
+	private final AtomicLongArray sequences;
+	private final int[] ops;
+	private final SoundClip[] clips;
+	private final float[] values;
+	private final AtomicLong tail = new AtomicLong();
+	// 仅消费者访问
+	private long head = 0;
+
+	/**
+	 * @param capacity 容量，向上取 2 的幂
+	 */
+	SoundQueue(int capacity) {
+		int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+		mask = size - 1;
+		sequences = new AtomicLongArray(size);
+		ops = new int[size];
+		clips = new SoundClip[size];
+		values = new float[size];
+		for (int i = 0; i < size; i++) {
+			sequences.set(i, i);
+		}
+	}
+
+	/**
+	 * 入队（任意线程）
+	 * 
+	 * @param op    命令
+	 * @param clip  音效片段
+	 * @param value 参数（音量）
+	 * @return 队列已满时返回 false
+	 */
+	boolean offer(int op, SoundClip clip, float value) {
+		long position;
+		int i;
+		while (true) {
+			position = tail.get();
+			i = (int) position & mask;
+			long diff = sequences.get(i) - position;
+			if (diff == 0) {
+				if (tail.compareAndSet(position, position + 1)) {
+					break;
+				}
+			} else if (diff < 0) {
+				// 消费者还没释放这一圈的槽位
+				return false;
+			}
+		}
+		ops[i] = op;
+		clips[i] = clip;
+		values[i] = value;
+		sequences.lazySet(i, position + 1);
+		return true;
+	}
+
+	/**
+	 * 下一个可读槽位（混音线程）
+	 * 
+	 * @return 槽位，队列为空时返回 -1
+	 */
+	int peek() {
+		int i = (int) head & mask;
+		return sequences.get(i) == head + 1 ? i : -1;
+	}
+
+	int op(int i) {
+		return ops[i];
+	}
+
+	SoundClip clip(int i) {
+		return clips[i];
+	}
+
+	float value(int i) {
+		return values[i];
+	}
+
+	/**
+	 * 释放已读槽位（混音线程）
+	 * 
+	 * @param i 槽位
+	 */
+	void release(int i) {
+		clips[i] = null;
+		sequences.lazySet(i, head + mask + 1);
+		head++;
+	}
+}
\ No newline at end of file
@@ -1,61 +1,118 @@
 package net.imyeyu.engine.media;
 
-import java.applet.AudioClip;
-import java.util.HashMap;
 import java.util.Map;
 
-import javafx.beans.property.ObjectProperty;
-import javafx.beans.property.SimpleObjectProperty;
-import javafx.concurrent.Service;
-import javafx.concurrent.Task;
-
 /**
  * 音效服务。建议使用枚举泛型
+ * <p>
+ * 音效在注册前解码为 PCM（SoundClip），由软件混音器（SoundMixer）播放，同一音效可重叠。
+ * 播放、停止和音量可在任意线程调用，写入混音器的无锁命令队列，同一帧内的重复触发合并为一次。
+ * 以地址注册的音效由缓存（AudioCache）管理，超出预算时释放最近最少使用且无页面引用的音效，
+ * 再次使用时后台重新加载
+ * </p>
  * 
  * @author 夜雨
  * @createdAt 2021-01-18 23:59:19
  *
  * @param <T> 标记类型
  */
-public abstract class SoundServer<T> extends Service<Boolean> {
+public abstract class SoundServer<T> {
+	
+	/** 音效缓存 */
+	private final AudioCache<T, SoundClip> cache = new AudioCache<>(SoundClip::getBytes);
+	/** 混音器 */
+	private final SoundMixer mixer;
 	
-	/** 音效列表 */
-	private Map<T, AudioClip> list = new HashMap<>();
-	/** 监听播放 */
-	private ObjectProperty<T> soundProperty = new SimpleObjectProperty<>();
+	/**
+	 * 输出到声卡
+	 * 
+	 */
+	public SoundServer() {
+		this(new SoundMixer());
+	}
+	
+	/**
+	 * 使用指定混音器（如无界面测试使用 NullSink、FileSink 输出）
+	 * 
+	 * @param mixer 混音器
+	 */
+	public SoundServer(SoundMixer mixer) {
+		this.mixer = mixer;
+	}
 
-	protected Task<Boolean> createTask() {
-		return new Task<Boolean>() {
-			protected Boolean call() throws Exception {
-				soundProperty.addListener((obs, o, type) -> {
-					if (type != null) {
-						list.get(type).stop();
-						list.get(type).play();
-						soundProperty.set(null);
-					}
-				});
-				return null;
-			}
-		};
+	/**
+	 * 启动混音器
+	 * 
+	 */
+	public void start() {
+		mixer.start();
 	}
 	
 	/**
-	 * 播放
+	 * 播放（任意线程）
 	 * 
 	 * @param t
 	 */
 	public void set(T t) {
-		soundProperty.set(t);
+		set(t, 1);
+	}
+	
+	/**
+	 * 以指定音量播放（任意线程）
+	 * 
+	 * @param t
+	 * @param volume 音量（0 ~ 1）
+	 */
+	public void set(T t, float volume) {
+		SoundClip clip = t == null ? null : cache.get(t);
+		if (clip != null) {
+			mixer.play(clip, volume);
+		}
+	}
+	
+	/**
+	 * 停止（任意线程）
+	 * 
+	 * @param t
+	 */
+	public void stop(T t) {
+		SoundClip clip = t == null ? null : cache.get(t);
+		if (clip != null) {
+			mixer.stop(clip);
+		}
+	}
+	
+	/**
+	 * 调整正在播放的音量（任意线程）
+	 * 
+	 * @param t
+	 * @param volume 音量（0 ~ 1）
+	 */
+	public void setVolume(T t, float volume) {
+		SoundClip clip = t == null ? null : cache.get(t);
+		if (clip != null) {
+			mixer.setVolume(clip, volume);
+		}
+	}
+	
+	/**
+	 * 添加到列表，常驻内存不会被缓存释放
+	 * 
+	 * @param t
+	 * @param clip 音效片段，见 SoundClip.load
+	 */
+	public void add(T t, SoundClip clip) {
+		cache.put(t, clip);
 	}
 	
 	/**
-	 * 添加到列表
+	 * 以地址添加到列表，首次使用或页面引用时后台解码，可被缓存释放
 	 * 
 	 * @param t
-	 * @param ac
+	 * @param url 音效地址
 	 */
-	public void add(T t, AudioClip ac) {
-		list.put(t, ac);
+	public void add(T t, String url) {
+		cache.register(t, () -> SoundClip.load(url));
 	}
 	
 	/**
@@ -64,15 +121,75 @@ public abstract class SoundServer<T> extends Service<Boolean> {
 	 * @param t
 	 */
 	public void remove(T t) {
-		list.remove(t);
+		cache.remove(t);
+	}
+	
+	/**
+	 * 引用音效，有引用的音效不会被释放，未加载时后台加载。页面使用的音效以 View.useSounds
+	 * 声明，由引擎在页面显示和隐藏时引用和取消引用
+	 * 
+	 * @param tags
+	 */
+	@SafeVarargs
+	public final void retain(T... tags) {
+		for (T t : tags) {
+			cache.retain(t);
+		}
+	}
+	
+	/**
+	 * 取消引用音效
+	 * 
+	 * @param tags
+	 */
+	@SafeVarargs
+	public final void release(T... tags) {
+		for (T t : tags) {
+			cache.release(t);
+		}
+	}
+	
+	/**
+	 * 音效缓存预算（字节，按解码后 PCM 计），0 为不限制。默认 0
+	 * 
+	 * @param budget
+	 */
+	public void setBudget(long budget) {
+		cache.setBudget(budget);
 	}
 	
 	/**
-	 * 获取列表
+	 * 获取已加载的音效
 	 * 
 	 * @return
 	 */
-	public Map<T, AudioClip> getList() {
-		return list;
+	public Map<T, SoundClip> getList() {
+		return cache.toMap();
+	}
+	
+	/**
+	 * 音效缓存
+	 * 
+	 * @return
+	 */
+	public AudioCache<T, SoundClip> getCache() {
+		return cache;
+	}
+	
+	/**
+	 * 混音器
+	 * 
+	 * @return
+	 */
+	public SoundMixer getMixer() {
+		return mixer;
+	}
+	
+	/**
+	 * 停止混音器
+	 * 
+	 */
+	public void shutdown() {
+		mixer.shutdown();
 	}
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package net.imyeyu.engine.media;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+
+/**
+ * 流式解码器工厂，见 AudioStream.addCodec
+ * 
+ * @author 夜雨
+ * @createdAt 2026-10-18 17:04:33
+ *
+ */
+public interface StreamCodec {
+
+	/**
+	 * 识别并打开音频数据
+	 * 
+	 * @param data 文件映射
+	 * @return 解码器，不支持该格式时返回 null
+	 * @throws IOException 数据异常
+	 */
+	StreamDecoder open(MappedByteBuffer data) throws IOException;
+}
\ No newline at end of file
@@ -0,0 +1,44 @@
+package net.imyeyu.engine.media;
+
+import javax.sound.sampled.AudioFormat;
+
+/**
+ * 流式解码器，按需把压缩或原始音频解码为 16 位有符号小端 PCM，由 AudioStream 的解码线程调用
+ * 
+ * @author 夜雨
+ * @createdAt 2026-10-18 17:02:51
+ *
+ */
+public interface StreamDecoder {
+
+	/**
+	 * 输出格式，需为 16 位有符号小端 PCM
+	 * 
+	 * @return
+	 */
+	AudioFormat getFormat();
+
+	/**
+	 * 总帧数，未知时返回 -1
+	 * 
+	 * @return
+	 */
+	long getFrames();
+
+	/**
+	 * 解码下一段
+	 * 
+	 * @param buffer 输出缓冲
+	 * @param offset 偏移
+	 * @param length 最大字节数（帧大小的整数倍）
+	 * @return 写入字节数，已到结尾时返回 -1
+	 */
+	int read(byte[] buffer, int offset, int length);
+
+	/**
+	 * 跳转
+	 * 
+	 * @param frame 帧
+	 */
+	void seek(long frame);
+}
\ No newline at end of file
@@ -0,0 +1,117 @@
+package net.imyeyu.engine.media;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+
+import javax.sound.sampled.AudioFormat;
+
+/**
+ * WAV（PCM 8、16、24、32 位整数）流式解码器，直接读取文件映射，不复制整个数据块
+ * 
+ * @author 夜雨
+ * @createdAt 2026-10-18 17:08:14
+ *
+ */
+public final class WavDecoder implements StreamDecoder {
+
+	private static final int RIFF = 0x46464952, WAVE = 0x45564157, FMT = 0x20746D66, DATA = 0x61746164;
+	private static final int PCM = 1, EXTENSIBLE = 0xFFFE;
+	// KSDATAFORMAT_SUBTYPE_PCM {00000001-0000-0010-8000-00AA00389B71}，小端读取的前 8 字节和后 8 字节
+	private static final long SUBTYPE_PCM_HIGH = 0x0010000000000001L, SUBTYPE_PCM_LOW = 0x719B3800AA000080L;
+
+	private final ByteBuffer data;
+	private final AudioFormat format;
+	private final int channels, bytesPerSample, start;
+	private final long frames;
+	private long frame = 0;
+
+	private WavDecoder(ByteBuffer data, int start, int length, int channels, int bits, float rate) {
+		this.data = data;
+		this.start = start;
+		this.channels = channels;
+		this.bytesPerSample = bits / 8;
+		this.frames = length / (channels * bytesPerSample);
+		this.format = new AudioFormat(rate, 16, channels, true, false);
+	}
+
+	/**
+	 * 打开 WAV 数据
+	 * 
+	 * @param mapped 文件映射
+	 * @return 解码器，不是 WAV 时返回 null
+	 * @throws IOException 不支持的 WAV 编码或数据不完整
+	 */
+	public static WavDecoder open(MappedByteBuffer mapped) throws IOException {
+		ByteBuffer data = mapped.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+		int limit = data.limit();
+		if (limit < 12 || data.getInt(0) != RIFF || data.getInt(8) != WAVE) {
+			return null;
+		}
+		int format = -1, channels = 0, bits = 0, start = -1, length = 0;
+		float rate = 0;
+		for (int position = 12; position + 8 <= limit;) {
+			int id = data.getInt(position);
+			long size = data.getInt(position + 4) & 0xFFFFFFFFL;
+			if (id == FMT && 16 <= size && position + 24 <= limit) {
+				format = data.getShort(position + 8) & 0xFFFF;
+				channels = data.getShort(position + 10);
+				rate = data.getInt(position + 12);
+				bits = data.getShort(position + 22);
+				if (format == EXTENSIBLE) {
+					// 扩展格式以子格式 GUID 区分编码，只接受整数 PCM（浮点等按整数解码会成为噪声）
+					int sub = position + 8 + 24;
+					boolean isPCM = 40 <= size && sub + 16 <= limit;
+					isPCM = isPCM && data.getLong(sub) == SUBTYPE_PCM_HIGH && data.getLong(sub + 8) == SUBTYPE_PCM_LOW;
+					format = isPCM ? PCM : EXTENSIBLE;
+				}
+			} else if (id == DATA) {
+				start = position + 8;
+				length = (int) Math.min(size, limit - start);
+				break;
+			}
+			position += 8 + size + (size & 1);
+		}
+		if (format != PCM || channels < 1 || (bits != 8 && bits != 16 && bits != 24 && bits != 32)) {
+			throw new IOException("不支持的 WAV 编码：" + format + "，" + bits + " 位");
+		}
+		if (start < 0) {
+			throw new IOException("WAV 缺少数据块");
+		}
+		return new WavDecoder(data, start, length, channels, bits, rate);
+	}
+
+	public AudioFormat getFormat() {
+		return format;
+	}
+
+	public long getFrames() {
+		return frames;
+	}
+
+	public int read(byte[] buffer, int offset, int length) {
+		if (frames <= frame) {
+			return -1;
+		}
+		int count = (int) Math.min(length / (channels * 2), frames - frame);
+		int samples = count * channels, sample;
+		int position = start + (int) (frame * channels * bytesPerSample);
+		for (int i = 0, j = offset; i < samples; i++, j += 2, position += bytesPerSample) {
+			switch (bytesPerSample) {
+				case 1:  sample = ((data.get(position) & 0xFF) - 128) << 8; break;
+				case 2:  sample = data.getShort(position); break;
+				case 3:  sample = data.getShort(position + 1); break;
+				default: sample = data.getShort(position + 2); break;
+			}
+			buffer[j] = (byte) sample;
+			buffer[j + 1] = (byte) (sample >> 8);
+		}
+		frame += count;
+		return count * channels * 2;
+	}
+
+	public void seek(long frame) {
+		this.frame = Math.max(0, Math.min(frames, frame));
+	}
+}
\ No newline at end of file
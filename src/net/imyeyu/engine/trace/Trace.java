@@ -0,0 +1,140 @@
+package net.imyeyu.engine.trace;
+
+/**
+ * Java Flight Recorder 追踪入口
+ * <p>
+ * JFR 事件依赖 jdk.jfr，单独放在 jfr 源码目录（需 JDK 11+ 或 8u262+ 编译），引擎本身仍按 Java 8 编译。
+ * 启动时尝试加载 {@link #IMPL}，其编译结果不在 classpath 或运行时缺少 jdk.jfr 时 ENABLED 为 false。
+ * 未在录制时各 begin 方法不创建事件直接返回 null，end 方法忽略 null，帧循环不产生额外分配
+ * </p>
+ * 开启录制:
+ * 
+ * <pre>
+ * java -XX:StartFlightRecording=filename=game.jfr ...
+ * </pre>
+ * 
+ * @author 夜雨
+ * @createdAt 2026-10-18 00:11:02
+ *
+ */
+public final class Trace {
+
+	/** JFR 追踪实现类 */
+	public static final String IMPL = "net.imyeyu.engine.trace.jfr.JFRTracer";
+
+	private static final Tracer TRACER;
+
+	/** 是否支持 JFR */
+	public static final boolean ENABLED;
+
+	static {
+		Tracer tracer;
+		try {
+			tracer = (Tracer) Class.forName(IMPL).getDeclaredConstructor().newInstance();
+		} catch (ReflectiveOperationException | LinkageError | ClassCastException e) {
+			tracer = null;
+		}
+		TRACER = tracer;
+		ENABLED = tracer != null;
+	}
+
+	private Trace() {
+	}
+
+	/**
+	 * 是否正在录制
+	 * 
+	 * @return true 为支持 JFR 且有录制在进行
+	 */
+	public static boolean isRecording() {
+		return ENABLED && TRACER.isRecording();
+	}
+
+	/**
+	 * 帧更新脉冲开始
+	 * 
+	 * @return 事件，未在录制时为 null
+	 */
+	public static Object beginFrame() {
+		return isRecording() ? TRACER.beginFrame() : null;
+	}
+
+	/**
+	 * 帧更新脉冲结束
+	 * 
+	 * @param event     beginFrame 返回值
+	 * @param fixedStep 是否固定步长模式
+	 * @param updates   本次脉冲帧更新次数
+	 */
+	public static void endFrame(Object event, boolean fixedStep, int updates) {
+		if (event != null) {
+			TRACER.endFrame(event, fixedStep, updates);
+		}
+	}
+
+	/**
+	 * onUpdate 开始
+	 * 
+	 * @return 事件，未在录制时为 null
+	 */
+	public static Object beginUpdate() {
+		return isRecording() ? TRACER.beginUpdate() : null;
+	}
+
+	/**
+	 * onUpdate 结束
+	 * 
+	 * @param event  beginUpdate 返回值
+	 * @param view   页面或会话标记
+	 * @param dialog 是否会话
+	 */
+	public static void endUpdate(Object event, String view, boolean dialog) {
+		if (event != null) {
+			TRACER.endUpdate(event, view, dialog);
+		}
+	}
+
+	/**
+	 * 页面切换开始
+	 * 
+	 * @param from 旧页面标记
+	 * @param to   新页面标记
+	 * @return 事件，未在录制时为 null
+	 */
+	public static Object beginTransition(String from, String to) {
+		return isRecording() ? TRACER.beginTransition(from, to) : null;
+	}
+
+	/**
+	 * 页面切换结束
+	 * 
+	 * @param event beginTransition 返回值
+	 */
+	public static void endTransition(Object event) {
+		if (event != null) {
+			TRACER.endTransition(event);
+		}
+	}
+
+	/**
+	 * 会话动画开始
+	 * 
+	 * @param dialog 会话标记
+	 * @param action show 或 close
+	 * @return 事件，未在录制时为 null
+	 */
+	public static Object beginDialog(String dialog, String action) {
+		return isRecording() ? TRACER.beginDialog(dialog, action) : null;
+	}
+
+	/**
+	 * 会话动画结束
+	 * 
+	 * @param event beginDialog 返回值
+	 */
+	public static void endDialog(Object event) {
+		if (event != null) {
+			TRACER.endDialog(event);
+		}
+	}
+}
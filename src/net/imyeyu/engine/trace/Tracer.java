@@ -0,0 +1,86 @@
+package net.imyeyu.engine.trace;
+
+/**
+ * 追踪实现，由 {@link Trace} 在运行时加载
+ * <p>
+ * begin 方法返回的事件对象原样传回对应的 end 方法，Trace 只在 isRecording 为 true 时调用 begin，
+ * 各 end 方法需忽略 null
+ * </p>
+ * 
+ * @author 夜雨
+ * @createdAt 2026-10-18 00:10:36
+ *
+ */
+public interface Tracer {
+
+	/**
+	 * 是否正在录制，帧循环每次脉冲都会读取，需足够廉价
+	 * 
+	 * @return true 为正在录制
+	 */
+	boolean isRecording();
+
+	/**
+	 * 帧更新脉冲开始
+	 * 
+	 * @return 事件
+	 */
+	Object beginFrame();
+
+	/**
+	 * 帧更新脉冲结束
+	 * 
+	 * @param event     beginFrame 返回值
+	 * @param fixedStep 是否固定步长模式
+	 * @param updates   本次脉冲帧更新次数
+	 */
+	void endFrame(Object event, boolean fixedStep, int updates);
+
+	/**
+	 * onUpdate 开始
+	 * 
+	 * @return 事件
+	 */
+	Object beginUpdate();
+
+	/**
+	 * onUpdate 结束
+	 * 
+	 * @param event  beginUpdate 返回值
+	 * @param view   页面或会话标记
+	 * @param dialog 是否会话
+	 */
+	void endUpdate(Object event, String view, boolean dialog);
+
+	/**
+	 * 页面切换开始
+	 * 
+	 * @param from 旧页面标记
+	 * @param to   新页面标记
+	 * @return 事件
+	 */
+	Object beginTransition(String from, String to);
+
+	/**
+	 * 页面切换结束
+	 * 
+	 * @param event beginTransition 返回值
+	 */
+	void endTransition(Object event);
+
+	/**
+	 * 会话动画开始
+	 * 
+	 * @param dialog 会话标记
+	 * @param action show 或 close
+	 * @return 事件
+	 */
+	Object beginDialog(String dialog, String action);
+
+	/**
+	 * 会话动画结束
+	 * 
+	 * @param event beginDialog 返回值
+	 */
+	void endDialog(Object event);
+}
@@ -1,8 +1,11 @@
 package net.imyeyu.engine.utils;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+import javafx.animation.Interpolator;
 import net.imyeyu.engine.bean.BezierPoint;
 
 /**
@@ -32,6 +35,21 @@ import net.imyeyu.engine.bean.BezierPoint;
  * };
  * timer.start();
  * </pre>
+ * 按时间求值（与 FPS 无关，等同 CSS cubic-bezier 计时函数）:
+ * 
+ * <pre>
+ * CubicBezier ease = new CubicBezier(.23, 1, .32, 1);
+ * // elapsed 为已经过的时间，duration 为总时长
+ * region.setTranslateX(ease.ease(elapsed / duration) * 300);
+ * // 或作为 JavaFX 插值器
+ * new KeyValue(region.translateXProperty(), 300, ease.toInterpolator());
+ * </pre>
+ * 按帧取值时使用全局共享的采样表（LRU 缓存，常用曲线只构造一次）:
+ * 
+ * <pre>
+ * CurveTable table = CubicBezier.table(.23, 1, .32, 1, 120);
+ * region.setTranslateX(table.at(frame) * 300);
+ * </pre>
  * 
  * @author 夜雨
  * @createdAt 2021-01-19 10:54:48
@@ -39,15 +57,157 @@ import net.imyeyu.engine.bean.BezierPoint;
  */
 public class CubicBezier {
 
+	// 采样表缓存上限，超出时淘汰最久未使用的曲线
+	private static final int TABLE_LIMIT = 128;
+	private static final Map<Key, CurveTable> TABLES = new LinkedHashMap<Key, CurveTable>(16, .75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		protected boolean removeEldestEntry(Map.Entry<Key, CurveTable> eldest) {
+			return TABLE_LIMIT < size();
+		}
+	};
+
 	private int boost = 1;
-	private double precision = 0.01;
+	private double precision = 100;
 	private BezierPoint cps[] = new BezierPoint[4];
 
+	// 采样表大小，x(t) 在 t = i / (SAMPLES - 1) 处的值，用于牛顿迭代的初值
+	private static final int SAMPLES = 11;
+	private static final double SAMPLE_STEP = 1d / (SAMPLES - 1);
+	// 牛顿迭代次数、斜率下限，低于下限改用二分
+	private static final int NEWTON_ITERATIONS = 4;
+	private static final double NEWTON_MIN_SLOPE = 1E-3;
+	// 求解精度，二分最大次数
+	private static final double PRECISION = 1E-7;
+	private static final int SUBDIVISION_ITERATIONS = 24;
+
+	// 多项式系数 x(t) = ((ax * t + bx) * t + cx) * t，y 同理
+	private final double ax, bx, cx, ay, by, cy;
+	private final boolean isLinear;
+	private final double[] samples = new double[SAMPLES];
+	private Interpolator interpolator;
+
+	/**
+	 * 控制点 (f0, f1)、(f2, f3)，按时间求值时 f0、f2 需在 [0, 1] 内
+	 * 
+	 * @param f0 x1
+	 * @param f1 y1
+	 * @param f2 x2
+	 * @param f3 y2
+	 */
 	public CubicBezier(double f0, double f1, double f2, double f3) {
 		cps[0] = new BezierPoint(0, 0);
 		cps[1] = new BezierPoint(f0, f1);
 		cps[2] = new BezierPoint(f2, f3);
 		cps[3] = new BezierPoint(1, 1);
+
+		cx = 3 * f0;
+		bx = 3 * (f2 - f0) - cx;
+		ax = 1 - cx - bx;
+		cy = 3 * f1;
+		by = 3 * (f3 - f1) - cy;
+		ay = 1 - cy - by;
+		isLinear = f0 == f1 && f2 == f3;
+		for (int i = 0; i < SAMPLES; i++) {
+			samples[i] = sampleX(i * SAMPLE_STEP);
+		}
+	}
+
+	/**
+	 * 按时间求值：解出 x(t) = x 的曲线参数 t，返回 y(t)。不产生分配
+	 * 
+	 * @param x 时间进度 [0, 1]，超出时截断
+	 * @return 缓动进度
+	 */
+	public double ease(double x) {
+		if (x <= 0) {
+			return 0;
+		}
+		if (1 <= x) {
+			return 1;
+		}
+		if (isLinear) {
+			return x;
+		}
+		return sampleY(solve(x));
+	}
+
+	/**
+	 * 作为 JavaFX 插值器（同一曲线返回同一实例）
+	 * 
+	 * @return
+	 */
+	public Interpolator toInterpolator() {
+		if (interpolator == null) {
+			interpolator = new Interpolator() {
+
+				@Override
+				protected double curve(double t) {
+					return ease(t);
+				}
+
+				@Override
+				public String toString() {
+					return "CubicBezier(" + cps[1].x + ", " + cps[1].y + ", " + cps[2].x + ", " + cps[2].y + ")";
+				}
+			};
+		}
+		return interpolator;
+	}
+
+	// 采样表定位区间，线性插值作为初值，斜率足够时牛顿迭代，未收敛或斜率过小时在区间内二分
+	private double solve(double x) {
+		int i = 1;
+		while (i < SAMPLES - 1 && samples[i] <= x) {
+			i++;
+		}
+		i--;
+		double start = i * SAMPLE_STEP;
+		double t = start + (x - samples[i]) / (samples[i + 1] - samples[i]) * SAMPLE_STEP;
+		double slope = sampleDX(t), dx;
+		if (NEWTON_MIN_SLOPE <= slope) {
+			for (int n = 0; n < NEWTON_ITERATIONS; n++) {
+				dx = sampleX(t) - x;
+				if (Math.abs(dx) <= PRECISION) {
+					return t;
+				}
+				slope = sampleDX(t);
+				if (slope < NEWTON_MIN_SLOPE) {
+					break;
+				}
+				t -= dx / slope;
+			}
+			if (start <= t && t <= start + SAMPLE_STEP && Math.abs(sampleX(t) - x) <= PRECISION) {
+				return t;
+			}
+		}
+		double lo = start, hi = start + SAMPLE_STEP;
+		for (int n = 0; n < SUBDIVISION_ITERATIONS; n++) {
+			t = lo + (hi - lo) / 2;
+			dx = sampleX(t) - x;
+			if (Math.abs(dx) <= PRECISION) {
+				break;
+			}
+			if (0 < dx) {
+				hi = t;
+			} else {
+				lo = t;
+			}
+		}
+		return t;
+	}
+
+	private double sampleX(double t) {
+		return ((ax * t + bx) * t + cx) * t;
+	}
+
+	private double sampleY(double t) {
+		return ((ay * t + by) * t + cy) * t;
+	}
+
+	private double sampleDX(double t) {
+		return (3 * ax * t + 2 * bx) * t + cx;
 	}
 
 	/**
@@ -60,7 +220,7 @@ public class CubicBezier {
 		if (precision < 4) {
 			throw new IllegalArgumentException("精度不可小于 4");
 		}
-		this.precision = 1d / precision;
+		this.precision = precision;
 		return this;
 	}
 
@@ -79,30 +239,103 @@ public class CubicBezier {
 	}
 
 	/**
-	 * 构造二次贝塞尔点
+	 * 构造二次贝塞尔点（每次构造新的点列表，按帧取值建议使用 table）。采样点与点数和以往
+	 * 版本一致，与 table 的 precision + 1 个采样不同
 	 * 
 	 * @return
 	 */
 	public List<BezierPoint> build() {
 		List<BezierPoint> bps = new ArrayList<>();
+		double step = 1d / precision;
+		for (float i = 0; i <= 1; i += step) {
+			bps.add(new BezierPoint(sampleX(i) * boost, sampleY(i) * boost));
+		}
+		return bps;
+	}
 
-		int n = cps.length - 1;
-		int j, k;
-		BezierPoint[] p;
-		for (float i = 0; i <= 1; i += precision) {
-			p = new BezierPoint[n + 1];
-			for (j = 0; j <= n; j++) {
-				p[j] = new BezierPoint(cps[j].x, cps[j].y);
+	/**
+	 * 当前控制点和精度的共享采样表（不计放大倍数）
+	 * 
+	 * @return
+	 */
+	public CurveTable table() {
+		return table(cps[1].x, cps[1].y, cps[2].x, cps[2].y, precision);
+	}
+
+	/**
+	 * 获取共享采样表，同一曲线和精度在缓存期间返回同一实例。缓存按最近使用保留最多 128 条
+	 * 曲线，运行时参数生成的大量曲线不会使其持续增长。采样点为曲线参数 t = i / precision，
+	 * i 从 0 到 precision（取整）
+	 * 
+	 * @param f0        x1
+	 * @param f1        y1
+	 * @param f2        x2
+	 * @param f3        y2
+	 * @param precision 精度，不可小于 4
+	 * @return
+	 */
+	public static CurveTable table(double f0, double f1, double f2, double f3, double precision) {
+		if (precision < 4) {
+			throw new IllegalArgumentException("精度不可小于 4");
+		}
+		Key key = new Key(f0, f1, f2, f3, precision);
+		synchronized (TABLES) {
+			CurveTable table = TABLES.get(key);
+			if (table == null) {
+				table = sample(f0, f1, f2, f3, precision);
+				TABLES.put(key, table);
 			}
-			for (k = 1; k <= n; k++) {
-				for (j = 0; j <= n - k; j++) {
-					p[j].x = (1 - i) * p[j].x + i * p[j + 1].x;
-					p[j].y = (1 - i) * p[j].y + i * p[j + 1].y;
-				}
+			return table;
+		}
+	}
+
+	// 按多项式直接求值，除结果数组外不产生分配
+	private static CurveTable sample(double f0, double f1, double f2, double f3, double precision) {
+		double cx = 3 * f0, bx = 3 * (f2 - f0) - cx, ax = 1 - cx - bx;
+		double cy = 3 * f1, by = 3 * (f3 - f1) - cy, ay = 1 - cy - by;
+		int size = (int) precision + 1;
+		double[] x = new double[size], y = new double[size];
+		double t;
+		for (int i = 0; i < size; i++) {
+			t = i / precision;
+			x[i] = ((ax * t + bx) * t + cx) * t;
+			y[i] = ((ay * t + by) * t + cy) * t;
+		}
+		return new CurveTable(x, y);
+	}
+
+	/**
+	 * 采样表缓存键（不可变）
+	 * 
+	 */
+	private static final class Key {
+
+		private final double f0, f1, f2, f3, precision;
+
+		Key(double f0, double f1, double f2, double f3, double precision) {
+			this.f0 = f0;
+			this.f1 = f1;
+			this.f2 = f2;
+			this.f3 = f3;
+			this.precision = precision;
+		}
+
+		public int hashCode() {
+			long h = Double.doubleToLongBits(f0);
+			h = h * 31 + Double.doubleToLongBits(f1);
+			h = h * 31 + Double.doubleToLongBits(f2);
+			h = h * 31 + Double.doubleToLongBits(f3);
+			h = h * 31 + Double.doubleToLongBits(precision);
+			return (int) (h ^ (h >>> 32));
+		}
+
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key)) {
+				return false;
 			}
-			p[0].boost(boost);
-			bps.add(p[0]);
+			Key k = (Key) obj;
+			return Double.compare(f0, k.f0) == 0 && Double.compare(f1, k.f1) == 0 && Double.compare(f2, k.f2) == 0
+					&& Double.compare(f3, k.f3) == 0 && Double.compare(precision, k.precision) == 0;
 		}
-		return bps;
 	}
 }
\ No newline at end of file
@@ -0,0 +1,66 @@
+package net.imyeyu.engine.utils;
+
+/**
+ * 缓动曲线采样表（不可变），按曲线参数等距采样的 x、y 值，由 CubicBezier.table 构造并全局共享
+ * 
+ * @author 夜雨
+ * @createdAt 2026-10-18 13:40:51
+ *
+ */
+public final class CurveTable {
+
+	private final double[] x, y;
+
+	CurveTable(double[] x, double[] y) {
+		this.x = x;
+		this.y = y;
+	}
+
+	/**
+	 * 采样数
+	 * 
+	 * @return
+	 */
+	public int size() {
+		return y.length;
+	}
+
+	/**
+	 * 第 i 个采样的 x（时间进度）
+	 * 
+	 * @param i 索引
+	 * @return
+	 */
+	public double getX(int i) {
+		return x[i];
+	}
+
+	/**
+	 * 第 i 个采样的 y（缓动进度）
+	 * 
+	 * @param i 索引
+	 * @return
+	 */
+	public double getY(int i) {
+		return y[i];
+	}
+
+	/**
+	 * 按帧取 y，超出末尾时取最后一个
+	 * 
+	 * @param frame 帧
+	 * @return
+	 */
+	public double at(int frame) {
+		return y[frame < y.length ? frame : y.length - 1];
+	}
+
+	/**
+	 * 复制 y 值
+	 * 
+	 * @return
+	 */
+	public double[] toArray() {
+		return y.clone();
+	}
+}
\ No newline at end of file
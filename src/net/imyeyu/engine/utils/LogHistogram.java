@@ -0,0 +1,117 @@
+package net.imyeyu.engine.utils;
+
+/**
+ * 对数分桶直方图，用于帧耗时等非负整数的百分位统计 <br>
+ * 小于 16 的值按 1 分桶，之后每个 2 的幂区间再等分 8 桶，相对误差不超过 12.5%，
+ * 桶数固定，添加、移除和查询都不产生分配
+ * 
+ * @author 夜雨
+ * @createdAt 2026-10-17 23:02:37
+ *
+ */
+public final class LogHistogram {
+
+	// 线性区间上限（2^4）
+	private static final int LINEAR_BITS = 4;
+	private static final int LINEAR = 1 << LINEAR_BITS;
+	// 每个 2 的幂区间再分桶数（2^3）
+	private static final int SUB_BITS = 3;
+	private static final int SUB = 1 << SUB_BITS;
+	// 最大指数，超出归入最后一桶
+	private static final int MAX_EXP = 30;
+	private static final int BUCKETS = LINEAR + (MAX_EXP - LINEAR_BITS) * SUB;
+
+	private final int[] buckets = new int[BUCKETS];
+	private long count = 0;
+
+	/**
+	 * 添加值
+	 * 
+	 * @param v 非负整数，负数按 0 计
+	 */
+	public void add(long v) {
+		buckets[indexOf(v)]++;
+		count++;
+	}
+
+	/**
+	 * 移除值（必须是此前添加过的值），用于滑动窗口
+	 * 
+	 * @param v
+	 */
+	public void remove(long v) {
+		int i = indexOf(v);
+		if (0 < buckets[i]) {
+			buckets[i]--;
+			count--;
+		}
+	}
+
+	/**
+	 * 清空
+	 * 
+	 */
+	public void clear() {
+		for (int i = 0; i < BUCKETS; i++) {
+			buckets[i] = 0;
+		}
+		count = 0;
+	}
+
+	/**
+	 * 获取百分位值（所在桶的上界）
+	 * 
+	 * @param p 百分位，范围 [0, 1]
+	 * @return 没有数据时返回 0
+	 */
+	public long percentile(double p) {
+		if (count == 0) {
+			return 0;
+		}
+		long rank = (long) Math.ceil(Math.max(0, Math.min(1, p)) * count);
+		if (rank < 1) {
+			rank = 1;
+		}
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += buckets[i];
+			if (rank <= seen) {
+				return upperOf(i);
+			}
+		}
+		return upperOf(BUCKETS - 1);
+	}
+
+	/**
+	 * 数据量
+	 * 
+	 * @return
+	 */
+	public long count() {
+		return count;
+	}
+
+	// 值所在桶
+	private static int indexOf(long v) {
+		if (v < LINEAR) {
+			return v < 0 ? 0 : (int) v;
+		}
+		int exp = 63 - Long.numberOfLeadingZeros(v);
+		if (MAX_EXP <= exp) {
+			return BUCKETS - 1;
+		}
+		int sub = (int) (v >>> (exp - SUB_BITS)) & (SUB - 1);
+		return LINEAR + (exp - LINEAR_BITS) * SUB + sub;
+	}
+
+	// 桶上界
+	private static long upperOf(int i) {
+		if (i < LINEAR) {
+			return i;
+		}
+		int exp = (i - LINEAR) / SUB + LINEAR_BITS;
+		int sub = (i - LINEAR) % SUB;
+		long lower = (long) (SUB + sub) << (exp - SUB_BITS);
+		return lower + (1L << (exp - SUB_BITS)) - 1;
+	}
+}
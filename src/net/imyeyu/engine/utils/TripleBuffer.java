@@ -0,0 +1,93 @@
+package net.imyeyu.engine.utils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 无锁三缓冲，用于单个写线程向单个读线程交接状态快照（如模拟线程向 FX 线程） <br>
+ * 写线程只操作 back，读线程只操作 front，两者通过中间缓冲原子交换，任何一方都不会阻塞，
+ * 读线程总能拿到最新一次发布的完整快照，缓冲对象循环复用，不产生额外分配 <br>
+ * 示例:
+ * 
+ * <pre>
+ * TripleBuffer&lt;double[]&gt; buffer = new TripleBuffer&lt;&gt;(() -&gt; new double[2]);
+ * 
+ * // 模拟线程
+ * double[] pos = buffer.back();
+ * pos[0] = x;
+ * pos[1] = y;
+ * buffer.publish();
+ * 
+ * // FX 线程
+ * if (buffer.update()) {
+ *     region.setTranslateX(buffer.front()[0]);
+ *     region.setTranslateY(buffer.front()[1]);
+ * }
+ * </pre>
+ * 
+ * @author 夜雨
+ * @createdAt 2026-10-17 22:41:06
+ *
+ * @param <T> 快照类型
+ */
+public final class TripleBuffer<T> {
+
+	// 中间缓冲有新数据标记
+	private static final int FRESH = 4;
+	private static final int INDEX = 3;
+
+	private final Object[] slots = new Object[3];
+	// 中间缓冲下标及新数据标记
+	private final AtomicInteger middle = new AtomicInteger(1);
+	// 写缓冲下标（仅写线程访问）
+	private int back = 0;
+	// 读缓冲下标（仅读线程访问）
+	private int front = 2;
+
+	public TripleBuffer(Supplier<T> factory) {
+		for (int i = 0; i < slots.length; i++) {
+			slots[i] = factory.get();
+		}
+	}
+
+	/**
+	 * 获取写缓冲（写线程）
+	 * 
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	public T back() {
+		return (T) slots[back];
+	}
+
+	/**
+	 * 发布写缓冲，与中间缓冲交换（写线程）
+	 * 
+	 */
+	public void publish() {
+		back = middle.getAndSet(back | FRESH) & INDEX;
+	}
+
+	/**
+	 * 取最新发布的快照到读缓冲（读线程）
+	 * 
+	 * @return 有新快照时返回 true
+	 */
+	public boolean update() {
+		if ((middle.get() & FRESH) == 0) {
+			return false;
+		}
+		front = middle.getAndSet(front) & INDEX;
+		return true;
+	}
+
+	/**
+	 * 获取读缓冲（读线程）
+	 * 
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	public T front() {
+		return (T) slots[front];
+	}
+}